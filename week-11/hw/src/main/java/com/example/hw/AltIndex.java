@@ -0,0 +1,175 @@
+package com.example.hw;
+
+import java.util.Arrays;
+
+/**
+ * Preprocessed landmarks for ALT point-to-point queries: A* search guided by Landmarks
+ * and the Triangle inequality. The index stores the distance from each landmark to
+ * every vertex. For any landmark L, |d(L, t) - d(L, v)| is a lower bound on d(v, t), and
+ * the largest such bound steers the search towards the target, so a query settles far
+ * fewer vertices than Dijkstra's search, which grows evenly in every direction.
+ * Landmarks are chosen farthest-first, which tends to put them on the edge of the graph,
+ * where their bounds are tightest. Weights must not be negative.
+ */
+public final class AltIndex {
+    private final CsrGraph g;
+    private final int[] landmarks;
+    private final int[][] landmarkDist;  // landmarkDist[k][v] = d(landmarks[k], v)
+
+    /**
+     * Chooses the landmarks and computes their distances, one full shortest path search
+     * per landmark.
+     * @param g The graph snapshot to answer queries on.
+     * @param landmarkCount The number of landmarks, at least 1; more give tighter bounds
+     *                      at the cost of one int per vertex each.
+     */
+    public AltIndex(CsrGraph g, int landmarkCount) {
+        if (landmarkCount < 1) {
+            throw new IllegalArgumentException("At least one landmark is needed: " + landmarkCount);
+        }
+        for (int w : g.weights) {
+            if (w < 0) {
+                throw new IllegalArgumentException("ALT needs non-negative weights: " + w);
+            }
+        }
+        this.g = g;
+        int count = Math.min(landmarkCount, g.vertexCount());
+        this.landmarks = new int[count];
+        this.landmarkDist = new int[count][];
+
+        // closest[v] is v's distance to the nearest landmark so far; unreached counts as farthest
+        int[] closest = new int[g.labelBound()];
+        Arrays.fill(closest, Integer.MAX_VALUE);
+        int[] start = count == 0 ? null : distancesFrom(g.vertices[0]);
+        for (int k = 0; k < count; k++) {
+            // The first landmark is the vertex farthest from an arbitrary one
+            int[] reference = k == 0 ? start : closest;
+            int landmark = farthest(reference);
+            landmarks[k] = landmark;
+            landmarkDist[k] = distancesFrom(landmark);
+            for (int v : g.vertices) {
+                closest[v] = Math.min(closest[v], landmarkDist[k][v]);
+            }
+        }
+    }
+
+    /**
+     * Builds the index on a CSR snapshot of a graph.
+     * @param g The graph to answer queries on; later changes to it are not seen.
+     * @param landmarkCount The number of landmarks, at least 1.
+     */
+    public AltIndex(MyGraph g, int landmarkCount) {
+        this(g.freeze(), landmarkCount);
+    }
+
+    private int[] distancesFrom(int v) {
+        ShortestPathResult result = Main.shortestPathParallel(g, v);
+        int[] dist = new int[g.labelBound()];
+        for (int u = 0; u < dist.length; u++) {
+            dist[u] = result.getDistance(u);
+        }
+        return dist;
+    }
+
+    /**
+     * @return The vertex with the largest value in dist, the smallest such on ties,
+     *         skipping vertices at distance 0 such as the landmarks themselves.
+     */
+    private int farthest(int[] dist) {
+        int best = -1;
+        for (int v : g.vertices) {
+            if ((best < 0 || dist[v] > dist[best]) && dist[v] != 0) {
+                best = v;
+            }
+        }
+        // Every vertex is at distance 0, e.g. in a one-vertex graph; repeat a vertex
+        if (best < 0) {
+            best = g.vertices[0];
+        }
+        return best;
+    }
+
+    /**
+     * @return A copy of the landmark vertices, in the order they were chosen.
+     */
+    public int[] getLandmarks() {
+        return landmarks.clone();
+    }
+
+    /**
+     * The triangle-inequality lower bound on the distance from v to t.
+     * @param v A vertex.
+     * @param t A vertex.
+     * @return A lower bound on d(v, t), or Integer.MAX_VALUE if some landmark shows that
+     *         t cannot be reached from v.
+     */
+    public int lowerBound(int v, int t) {
+        int bound = 0;
+        for (int[] dist : landmarkDist) {
+            int dv = dist[v];
+            int dt = dist[t];
+            if (dv == Integer.MAX_VALUE && dt == Integer.MAX_VALUE) {
+                continue; // The landmark reaches neither, so it says nothing
+            }
+            if (dv == Integer.MAX_VALUE || dt == Integer.MAX_VALUE) {
+                return Integer.MAX_VALUE; // Exactly one is in the landmark's component
+            }
+            bound = Math.max(bound, Math.abs(dv - dt));
+        }
+        return bound;
+    }
+
+    /**
+     * Finds a shortest path with A*: the same search as Dijkstra's, but vertices are
+     * settled by distance plus lowerBound(v, target). The bound is consistent, so every
+     * vertex is still settled once with its final distance, and the search stops when
+     * the target is settled.
+     * @param source The starting vertex.
+     * @param target The vertex to find a path to.
+     * @return The result: settled vertices have final distances, pathTo(target) is a
+     *         shortest path, and getSettledCount() measures the work.
+     */
+    public ShortestPathResult shortestPath(int source, int target) {
+        if (!g.hasVertex(source) || !g.hasVertex(target)) {
+            throw new IllegalArgumentException("Both vertices must exist in the graph.");
+        }
+        int numVertices = g.labelBound();
+        int[] dist = new int[numVertices];
+        int[] previous = new int[numVertices];
+        boolean[] settled = new boolean[numVertices];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        Arrays.fill(previous, -1);
+        dist[source] = 0;
+
+        IndexedMinHeap unvisited = new IndexedMinHeap(numVertices);
+        int settledCount = 0;
+        if (lowerBound(source, target) != Integer.MAX_VALUE) {
+            unvisited.addOrDecrease(source, lowerBound(source, target));
+        }
+        while (!unvisited.isEmpty()) {
+            int currV = unvisited.pollMin();
+            settled[currV] = true;
+            settledCount++;
+            if (currV == target) {
+                break;
+            }
+
+            for (int i = g.offsets[currV]; i < g.offsets[currV + 1]; i++) {
+                int neighbor = g.targets[i];
+                if (!settled[neighbor]) {
+                    int possibleDist = dist[currV] + g.weights[i];
+                    if (possibleDist < dist[neighbor]) {
+                        int bound = lowerBound(neighbor, target);
+                        if (bound == Integer.MAX_VALUE) {
+                            continue; // The target is not reachable through this vertex
+                        }
+                        dist[neighbor] = possibleDist;
+                        previous[neighbor] = currV;
+                        unvisited.addOrDecrease(neighbor, possibleDist + bound);
+                    }
+                }
+            }
+        }
+        return new ShortestPathResult(source, target, dist, previous, settled, settledCount);
+    }
+}
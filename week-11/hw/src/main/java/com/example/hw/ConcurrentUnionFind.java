@@ -0,0 +1,88 @@
+package com.example.hw;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * A lock-free disjoint-set forest over the vertex labels 0 .. labelBound - 1 that many
+ * threads may use at once. Parents live in an AtomicIntegerArray and only change by
+ * compare-and-set. A union links the root with the larger label under the one with the
+ * smaller label, so parent links always point to smaller labels and can never form a
+ * cycle, whatever the interleaving. Finds halve their paths as they go, which keeps
+ * trees shallow without the extra state that union by rank would need.
+ */
+public class ConcurrentUnionFind {
+    private final AtomicIntegerArray parent;
+
+    /**
+     * Creates a forest in which every label is its own set.
+     * @param labelBound One more than the largest label.
+     */
+    public ConcurrentUnionFind(int labelBound) {
+        int[] roots = new int[labelBound];
+        for (int v = 0; v < labelBound; v++) {
+            roots[v] = v;
+        }
+        this.parent = new AtomicIntegerArray(roots);
+    }
+
+    /**
+     * Returns the representative of v's set. When other threads are merging sets at the
+     * same time, the result is v's root at some moment during the call.
+     * @param v A label.
+     * @return The representative of v's set.
+     */
+    public int find(int v) {
+        while (true) {
+            int p = parent.get(v);
+            if (p == v) {
+                return v;
+            }
+            int grandparent = parent.get(p);
+            if (grandparent != p) {
+                // Path halving; losing the race to another thread is harmless
+                parent.compareAndSet(v, p, grandparent);
+            }
+            v = grandparent;
+        }
+    }
+
+    /**
+     * Merges the sets of a and b.
+     * @param a A label.
+     * @param b A label.
+     * @return true if this call merged two sets; false if a and b were already together,
+     *         so of several threads joining the same two sets exactly one sees true.
+     */
+    public boolean union(int a, int b) {
+        while (true) {
+            int rootA = find(a);
+            int rootB = find(b);
+            if (rootA == rootB) {
+                return false;
+            }
+            int low = Math.min(rootA, rootB);
+            int high = Math.max(rootA, rootB);
+            // Fails if high stopped being a root since find returned it; then retry
+            if (parent.compareAndSet(high, high, low)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return true if a and b are in the same set.
+     */
+    public boolean connected(int a, int b) {
+        while (true) {
+            int rootA = find(a);
+            int rootB = find(b);
+            if (rootA == rootB) {
+                return true;
+            }
+            // Only a conclusive answer if rootA was still a root after rootB was found
+            if (parent.get(rootA) == rootA) {
+                return false;
+            }
+        }
+    }
+}
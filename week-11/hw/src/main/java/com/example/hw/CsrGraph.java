@@ -0,0 +1,152 @@
+package com.example.hw;
+
+import java.util.Arrays;
+
+/**
+ * An immutable snapshot of an undirected, weighted graph in compressed sparse row form.
+ * The neighbours of vertex v are targets[offsets[v]] .. targets[offsets[v + 1] - 1], with
+ * matching weights, so a traversal reads three flat int arrays instead of following
+ * boxed map keys, list nodes and Edge objects. Every undirected edge is stored once in
+ * each direction, in the order the edges were added, just like MyGraph's adjacency lists.
+ * Vertex labels index the arrays directly, so labels that are not vertices simply have
+ * no neighbours.
+ */
+public final class CsrGraph {
+    // Package-private so the algorithms in Main can run over the arrays directly
+    final int[] vertices;  // vertex labels in ascending order
+    final int[] offsets;   // labelBound() + 1 entries
+    final int[] targets;
+    final int[] weights;
+
+    /**
+     * Creates a snapshot from already-built arrays; see MyGraph.freeze() and fromEdges.
+     * @param vertices The vertex labels, sorted ascending and without duplicates.
+     * @param offsets The start of each label's neighbours, plus a final end offset.
+     * @param targets The neighbour of each adjacency entry.
+     * @param weights The edge weight of each adjacency entry.
+     */
+    CsrGraph(int[] vertices, int[] offsets, int[] targets, int[] weights) {
+        this.vertices = vertices;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    /**
+     * Builds a snapshot from parallel edge arrays with a counting pass per endpoint,
+     * so it runs in O(V + E).
+     * @param vertices The vertex labels, sorted ascending and without duplicates.
+     * @param from First endpoint of each edge.
+     * @param to Second endpoint of each edge.
+     * @param weight Weight of each edge.
+     * @param edgeCount The number of edges in the arrays to use.
+     * @return The snapshot.
+     */
+    static CsrGraph fromEdges(int[] vertices, int[] from, int[] to, int[] weight, int edgeCount) {
+        int labelBound = vertices.length == 0 ? 0 : vertices[vertices.length - 1] + 1;
+        int[] offsets = new int[labelBound + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            offsets[from[e] + 1]++;
+            offsets[to[e] + 1]++;
+        }
+        for (int v = 0; v < labelBound; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        int[] next = Arrays.copyOf(offsets, labelBound);
+        int[] targets = new int[2 * edgeCount];
+        int[] weights = new int[2 * edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            int i = next[from[e]]++;
+            targets[i] = to[e];
+            weights[i] = weight[e];
+            int j = next[to[e]]++;
+            targets[j] = from[e];
+            weights[j] = weight[e];
+        }
+        return new CsrGraph(vertices, offsets, targets, weights);
+    }
+
+    /**
+     * @return The number of vertices.
+     */
+    public int vertexCount() {
+        return vertices.length;
+    }
+
+    /**
+     * @return The number of undirected edges.
+     */
+    public int edgeCount() {
+        return targets.length / 2;
+    }
+
+    /**
+     * @return One more than the largest vertex label; the size of per-vertex arrays.
+     */
+    public int labelBound() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * @return A copy of the vertex labels in ascending order.
+     */
+    public int[] getVertices() {
+        return vertices.clone();
+    }
+
+    /**
+     * @param v A vertex label.
+     * @return true if v is a vertex of this graph.
+     */
+    public boolean hasVertex(int v) {
+        return Arrays.binarySearch(vertices, v) >= 0;
+    }
+
+    /**
+     * @param v A vertex label.
+     * @return The number of adjacency entries of v (a self-loop counts twice).
+     */
+    public int degree(int v) {
+        return offsets[v + 1] - offsets[v];
+    }
+
+    /**
+     * Finds the vertex whose adjacency range contains a given entry.
+     * @param entry An index into the adjacency arrays.
+     * @return The vertex the entry belongs to.
+     */
+    int sourceOf(int entry) {
+        // Last offset <= entry; empty ranges share an offset, so take the last such label
+        int lo = 0;
+        int hi = labelBound() - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (offsets[mid] <= entry) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+
+    // Utility method to display the graph in the same layout as MyGraph.printGraph()
+    public void printGraph() {
+        StringBuilder sb = new StringBuilder("V = { ");
+        for (int i = 0; i < vertices.length; i++) {
+            sb.append(i == 0 ? "" : ", ").append(vertices[i]);
+        }
+        System.out.println(sb.append(" }"));
+        System.out.println("Adj Lists");
+        for (int v : vertices) {
+            sb.setLength(0);
+            sb.append(v).append(": [");
+            for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                sb.append(i == offsets[v] ? "" : ", ");
+                sb.append(String.format("(%d, %d, %d)", v, targets[i], weights[i]));
+            }
+            System.out.println(sb.append(']'));
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.example.hw;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Delta-stepping single-source shortest paths over a CSR snapshot, behind
+ * Main.shortestPathParallel. Tentative distances live in an AtomicIntegerArray and
+ * vertices wait in buckets of width delta. Buckets are emptied in order: the light
+ * edges (weight <= delta) of a bucket's vertices are relaxed in parallel, again and
+ * again while that refills the bucket, and then its heavy edges once. Relaxations run
+ * as fork/join tasks over the frontier, lowering distances by compare-and-set.
+ *
+ * The search only finds distances; previous vertices are derived afterwards so they
+ * match Dijkstra's. With positive weights Dijkstra settles vertices in (distance,
+ * vertex) order and keeps the first settled neighbour that reaches a vertex's final
+ * distance, so previous[v] is the neighbour u with dist[u] + weight == dist[v] and the
+ * smallest (dist[u], u).
+ */
+final class DeltaStepping {
+    /** Frontier vertices relaxed by one leaf task. */
+    private static final int CHUNK = 256;
+
+    private DeltaStepping() {
+    }
+
+    /**
+     * Picks a bucket width from the weights: the largest weight over the average degree,
+     * so a vertex has about one light edge per unit of the largest weight.
+     * @param g The graph snapshot.
+     * @return A delta of at least 1.
+     */
+    static int defaultDelta(CsrGraph g) {
+        int maxWeight = 1;
+        for (int w : g.weights) {
+            maxWeight = Math.max(maxWeight, w);
+        }
+        long averageDegree = Math.max(1, (long) g.targets.length / Math.max(1, g.vertexCount()));
+        return (int) Math.max(1, maxWeight / averageDegree);
+    }
+
+    /**
+     * @param g The graph snapshot.
+     * @return true if every weight is positive, so the derived previous vertices are
+     *         Dijkstra's; zero weights let Dijkstra settle out of (distance, vertex) order.
+     */
+    static boolean hasPositiveWeights(CsrGraph g) {
+        for (int w : g.weights) {
+            if (w <= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Runs the search. All weights must be positive.
+     * @param g The graph snapshot.
+     * @param source The starting vertex.
+     * @param delta The bucket width, at least 1.
+     * @return The distances and previous vertices of every reachable vertex.
+     */
+    static ShortestPathResult shortestPaths(CsrGraph g, int source, int delta) {
+        int numVertices = g.labelBound();
+        AtomicIntegerArray tentative = new AtomicIntegerArray(numVertices);
+        for (int v = 0; v < numVertices; v++) {
+            tentative.set(v, Integer.MAX_VALUE);
+        }
+        tentative.set(source, 0);
+
+        int maxWeight = 0;
+        for (int w : g.weights) {
+            maxWeight = Math.max(maxWeight, w);
+        }
+        // Queued vertices are never more than maxWeight past the current bucket's start,
+        // so the buckets can be reused cyclically
+        Buckets buckets = new Buckets(numVertices, maxWeight / delta + 2);
+        buckets.add(source, 0);
+        boolean[] settled = new boolean[numVertices];
+        int settledCount = 0;
+
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        for (int b = 0; buckets.pending > 0; b++) {
+            IntBuffer heavy = new IntBuffer();
+            IntBuffer frontier;
+            while ((frontier = buckets.take(b)).size > 0) {
+                for (int k = 0; k < frontier.size; k++) {
+                    int v = frontier.data[k];
+                    if (!settled[v]) {
+                        settled[v] = true;
+                        settledCount++;
+                        heavy.add(v);
+                    }
+                }
+                buckets.addAll(pool.invoke(new Relax(g, tentative, delta, true, frontier.data, 0, frontier.size)),
+                        tentative, delta);
+            }
+            if (heavy.size > 0) {
+                buckets.addAll(pool.invoke(new Relax(g, tentative, delta, false, heavy.data, 0, heavy.size)),
+                        tentative, delta);
+            }
+        }
+
+        int[] dist = new int[numVertices];
+        IntStream.range(0, numVertices).parallel().forEach(v -> dist[v] = tentative.get(v));
+        int[] previous = new int[numVertices];
+        IntStream.range(0, numVertices).parallel().forEach(v -> previous[v] = previousOf(g, dist, source, v));
+        return new ShortestPathResult(source, ShortestPathResult.NO_TARGET, dist, previous, settled, settledCount);
+    }
+
+    /**
+     * @return The neighbour u of v with dist[u] + weight == dist[v] and the smallest
+     *         (dist[u], u), or -1 for the source and unreached vertices.
+     */
+    private static int previousOf(CsrGraph g, int[] dist, int source, int v) {
+        if (v == source || dist[v] == Integer.MAX_VALUE) {
+            return -1;
+        }
+        int best = -1;
+        for (int i = g.offsets[v]; i < g.offsets[v + 1]; i++) {
+            int u = g.targets[i];
+            if (dist[u] != Integer.MAX_VALUE && dist[u] + g.weights[i] == dist[v]
+                    && (best < 0 || dist[u] < dist[best] || (dist[u] == dist[best] && u < best))) {
+                best = u;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Relaxes the light or the heavy edges of frontier[lo .. hi - 1].
+     * @return The vertices whose distance this task lowered, possibly with repeats.
+     */
+    private static final class Relax extends RecursiveTask<IntBuffer> {
+        private static final long serialVersionUID = 1L;
+
+        private final CsrGraph g;
+        private final AtomicIntegerArray tentative;
+        private final int delta;
+        private final boolean light;
+        private final int[] frontier;
+        private final int lo;
+        private final int hi;
+
+        Relax(CsrGraph g, AtomicIntegerArray tentative, int delta, boolean light, int[] frontier, int lo, int hi) {
+            this.g = g;
+            this.tentative = tentative;
+            this.delta = delta;
+            this.light = light;
+            this.frontier = frontier;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected IntBuffer compute() {
+            if (hi - lo > CHUNK) {
+                int mid = (lo + hi) >>> 1;
+                Relax left = new Relax(g, tentative, delta, light, frontier, lo, mid);
+                left.fork();
+                IntBuffer right = new Relax(g, tentative, delta, light, frontier, mid, hi).compute();
+                IntBuffer updated = left.join();
+                updated.addAll(right);
+                return updated;
+            }
+            IntBuffer updated = new IntBuffer();
+            for (int k = lo; k < hi; k++) {
+                int u = frontier[k];
+                int du = tentative.get(u);
+                for (int i = g.offsets[u]; i < g.offsets[u + 1]; i++) {
+                    int w = g.weights[i];
+                    if ((w <= delta) != light) {
+                        continue;
+                    }
+                    int t = g.targets[i];
+                    int possibleDist = du + w;
+                    int current = tentative.get(t);
+                    while (possibleDist < current) {
+                        if (tentative.compareAndSet(t, current, possibleDist)) {
+                            updated.add(t);
+                            break;
+                        }
+                        current = tentative.get(t);
+                    }
+                }
+            }
+            return updated;
+        }
+    }
+
+    /**
+     * The buckets, used cyclically. A vertex is queued at most once per bucket; when its
+     * distance drops into another bucket, the old entry goes stale and is skipped.
+     */
+    private static final class Buckets {
+        private final IntBuffer[] slots;
+        private final int[] queuedIn;  // queuedIn[v] is the bucket v is queued in, or -1
+        private int pending;           // entries in all slots, stale ones included
+
+        Buckets(int numVertices, int slotCount) {
+            this.slots = new IntBuffer[slotCount];
+            for (int i = 0; i < slotCount; i++) {
+                slots[i] = new IntBuffer();
+            }
+            this.queuedIn = new int[numVertices];
+            Arrays.fill(queuedIn, -1);
+        }
+
+        void add(int v, int bucket) {
+            if (queuedIn[v] != bucket) {
+                queuedIn[v] = bucket;
+                slots[bucket % slots.length].add(v);
+                pending++;
+            }
+        }
+
+        void addAll(IntBuffer updated, AtomicIntegerArray tentative, int delta) {
+            for (int k = 0; k < updated.size; k++) {
+                int v = updated.data[k];
+                add(v, tentative.get(v) / delta);
+            }
+        }
+
+        /**
+         * Empties a bucket.
+         * @return Its vertices that are still queued in it.
+         */
+        IntBuffer take(int bucket) {
+            IntBuffer slot = slots[bucket % slots.length];
+            slots[bucket % slots.length] = new IntBuffer();
+            pending -= slot.size;
+            int live = 0;
+            for (int k = 0; k < slot.size; k++) {
+                int v = slot.data[k];
+                if (queuedIn[v] == bucket) {
+                    queuedIn[v] = -1;
+                    slot.data[live++] = v;
+                }
+            }
+            slot.size = live;
+            return slot;
+        }
+    }
+
+    /** A growable int array. */
+    private static final class IntBuffer {
+        int[] data = new int[8];
+        int size;
+
+        void add(int v) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size * 2);
+            }
+            data[size++] = v;
+        }
+
+        void addAll(IntBuffer other) {
+            if (size + other.size > data.length) {
+                data = Arrays.copyOf(data, Math.max(size + other.size, size * 2));
+            }
+            System.arraycopy(other.data, 0, data, size, other.size);
+            size += other.size;
+        }
+    }
+}
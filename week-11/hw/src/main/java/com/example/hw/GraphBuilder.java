@@ -0,0 +1,223 @@
+package com.example.hw;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Collects vertices and edges in growable int arrays and builds a graph in one go.
+ * Vertices are sorted and deduplicated once, at build time, instead of on every
+ * MyGraph.addVertex call, and edges skip MyGraph's per-edge map lookups. Since labels
+ * index arrays anyway, the sort is a single pass over a presence array, so building
+ * costs O(V + E + largest label) rather than O(V² log V + E).
+ * Edge endpoints are registered as vertices automatically.
+ */
+public final class GraphBuilder {
+    private int[] vertices = new int[16];
+    private int vertexCount;
+    private int[] from = new int[16];
+    private int[] to = new int[16];
+    private int[] weights = new int[16];
+    private int edgeCount;
+
+    /**
+     * Adds a vertex; adding the same vertex more than once is harmless.
+     * @param v The vertex label, at least 0.
+     * @return This builder.
+     */
+    public GraphBuilder addVertex(int v) {
+        checkLabel(v);
+        if (vertexCount == vertices.length) {
+            vertices = Arrays.copyOf(vertices, vertexCount * 2);
+        }
+        vertices[vertexCount++] = v;
+        return this;
+    }
+
+    /**
+     * Adds every vertex of a stream.
+     * @param labels The vertex labels.
+     * @return This builder.
+     */
+    public GraphBuilder addVertices(IntStream labels) {
+        labels.forEachOrdered(this::addVertex);
+        return this;
+    }
+
+    /**
+     * Adds an undirected edge, registering both endpoints as vertices.
+     * @param v1 The first vertex.
+     * @param v2 The second vertex.
+     * @param weight The weight of the edge.
+     * @return This builder.
+     */
+    public GraphBuilder addEdge(int v1, int v2, int weight) {
+        // Endpoints are picked up from the edge arrays at build time
+        checkLabel(v1);
+        checkLabel(v2);
+        if (edgeCount == from.length) {
+            int capacity = edgeCount * 2;
+            from = Arrays.copyOf(from, capacity);
+            to = Arrays.copyOf(to, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+        }
+        from[edgeCount] = v1;
+        to[edgeCount] = v2;
+        weights[edgeCount] = weight;
+        edgeCount++;
+        return this;
+    }
+
+    /**
+     * Adds every edge of a stream.
+     * @param edges The edges.
+     * @return This builder.
+     */
+    public GraphBuilder addEdges(Stream<Edge> edges) {
+        edges.forEachOrdered(e -> addEdge(e.v1, e.v2, e.weight));
+        return this;
+    }
+
+    /**
+     * Reads an edge list: one "v1 v2 weight" edge per line, separated by spaces, tabs or commas.
+     * A line with a single number adds an isolated vertex; blank lines and everything
+     * after a '#' are ignored. The numbers are parsed straight from each line.
+     * @param file The edge-list file.
+     * @return This builder.
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalArgumentException if a line is malformed.
+     */
+    public GraphBuilder loadEdgeList(Path file) throws IOException {
+        int[] fields = new int[3];
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                int count = parseLine(line, fields);
+                if (count == 1) {
+                    addVertex(fields[0]);
+                } else if (count == 3) {
+                    addEdge(fields[0], fields[1], fields[2]);
+                } else if (count != 0) {
+                    throw new IllegalArgumentException(
+                            file + ":" + lineNumber + ": expected \"v1 v2 weight\" but got \"" + line + "\"");
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Parses up to three integers from a line, ignoring a trailing '#' comment.
+     * @return The number of integers found, or -1 if there are more than three or
+     *         the line contains anything else.
+     */
+    private static int parseLine(String line, int[] fields) {
+        int count = 0;
+        int i = 0;
+        int n = line.length();
+        while (i < n) {
+            char c = line.charAt(i);
+            if (c == ' ' || c == '\t' || c == ',') {
+                i++;
+                continue;
+            }
+            if (c == '#') {
+                break;
+            }
+            if (count == fields.length) {
+                return -1;
+            }
+
+            boolean negative = c == '-';
+            if (negative) {
+                i++;
+            }
+            int start = i;
+            long value = 0;
+            while (i < n && line.charAt(i) >= '0' && line.charAt(i) <= '9') {
+                value = value * 10 + (line.charAt(i) - '0');
+                if (value > Integer.MAX_VALUE + 1L) {
+                    return -1;
+                }
+                i++;
+            }
+            if (i == start || (!negative && value > Integer.MAX_VALUE)) {
+                return -1;
+            }
+            if (i < n && " \t,#".indexOf(line.charAt(i)) < 0) {
+                return -1;
+            }
+            fields[count++] = (int) (negative ? -value : value);
+        }
+        return count;
+    }
+
+    private static void checkLabel(int v) {
+        if (v < 0) {
+            throw new IllegalArgumentException("Vertex labels must be non-negative: " + v);
+        }
+    }
+
+    /**
+     * @return The sorted, deduplicated labels of all vertices and edge endpoints so far.
+     */
+    private int[] sortedVertices() {
+        int max = -1;
+        for (int i = 0; i < vertexCount; i++) {
+            max = Math.max(max, vertices[i]);
+        }
+        for (int e = 0; e < edgeCount; e++) {
+            max = Math.max(max, Math.max(from[e], to[e]));
+        }
+
+        boolean[] present = new boolean[max + 1];
+        int distinct = 0;
+        for (int i = 0; i < vertexCount; i++) {
+            distinct += mark(present, vertices[i]);
+        }
+        for (int e = 0; e < edgeCount; e++) {
+            distinct += mark(present, from[e]) + mark(present, to[e]);
+        }
+
+        int[] labels = new int[distinct];
+        int next = 0;
+        for (int v = 0; v <= max; v++) {
+            if (present[v]) {
+                labels[next++] = v;
+            }
+        }
+        return labels;
+    }
+
+    private static int mark(boolean[] present, int v) {
+        if (present[v]) {
+            return 0;
+        }
+        present[v] = true;
+        return 1;
+    }
+
+    /**
+     * Builds a MyGraph. Its vertex list, adjacency lists and edge order are the same as
+     * if every vertex and edge had been added to an empty MyGraph in the same order.
+     * @return The new graph.
+     */
+    public MyGraph build() {
+        return new MyGraph(sortedVertices(), from, to, weights, edgeCount);
+    }
+
+    /**
+     * Builds an immutable CSR snapshot directly, without creating a MyGraph.
+     * @return The new snapshot; equal to build().freeze().
+     */
+    public CsrGraph buildCsr() {
+        return CsrGraph.fromEdges(sortedVertices(), from, to, weights, edgeCount);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.hw;
+
+import java.util.Arrays;
+
+/**
+ * A binary min-heap of vertices keyed by an int priority, with an index from vertex to
+ * heap slot so a vertex's key can be lowered in place. Each vertex is in the heap at
+ * most once, so the heap never holds more than the number of vertices. Equal keys are
+ * ordered by the smaller vertex, so Dijkstra settles equal distances in vertex order.
+ */
+class IndexedMinHeap {
+    private final int[] heap;  // vertices in heap order
+    private final int[] key;   // key[v] is v's priority while v is in the heap
+    private final int[] pos;   // pos[v] is v's slot in heap, or -1
+    private int size;
+
+    /**
+     * Creates an empty heap for the vertices 0 .. labelBound - 1.
+     * @param labelBound One more than the largest vertex that will be added.
+     */
+    IndexedMinHeap(int labelBound) {
+        this.heap = new int[labelBound];
+        this.key = new int[labelBound];
+        this.pos = new int[labelBound];
+        Arrays.fill(pos, -1);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean contains(int v) {
+        return pos[v] >= 0;
+    }
+
+    int keyOf(int v) {
+        return key[v];
+    }
+
+    /**
+     * Adds v with the given key, or lowers its key if it is already in the heap.
+     * A key that is not lower than the current one is ignored.
+     * @param v The vertex.
+     * @param k The new key.
+     */
+    void addOrDecrease(int v, int k) {
+        if (pos[v] < 0) {
+            key[v] = k;
+            heap[size] = v;
+            pos[v] = size;
+            siftUp(size++);
+        } else if (k < key[v]) {
+            key[v] = k;
+            siftUp(pos[v]);
+        }
+    }
+
+    /**
+     * @return The vertex with the smallest (key, vertex) pair; the heap must not be empty.
+     */
+    int peekMin() {
+        return heap[0];
+    }
+
+    /**
+     * Removes and returns the vertex with the smallest key. The heap must not be empty.
+     * @return The vertex with the smallest (key, vertex) pair.
+     */
+    int pollMin() {
+        int min = heap[0];
+        pos[min] = -1;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            pos[heap[0]] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    private boolean less(int a, int b) {
+        return key[a] < key[b] || (key[a] == key[b] && a < b);
+    }
+
+    private void siftUp(int i) {
+        int v = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!less(v, heap[parent])) {
+                break;
+            }
+            heap[i] = heap[parent];
+            pos[heap[i]] = i;
+            i = parent;
+        }
+        heap[i] = v;
+        pos[v] = i;
+    }
+
+    private void siftDown(int i) {
+        int v = heap[i];
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && less(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!less(heap[child], v)) {
+                break;
+            }
+            heap[i] = heap[child];
+            pos[heap[i]] = i;
+            i = child;
+        }
+        heap[i] = v;
+        pos[v] = i;
+    }
+}
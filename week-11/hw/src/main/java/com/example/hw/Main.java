@@ -1,12 +1,12 @@
 package com.example.hw;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Queue;
 
 public class Main {
+    /** Below this many vertices shortestPathParallel runs the sequential Dijkstra. */
+    private static final int PARALLEL_SHORTEST_PATH_MIN_VERTICES = 50_000;
 
     // =========================================================================
     // Part 4 – Connected Components
@@ -27,24 +27,27 @@ public class Main {
 
         int[] compMap = new int[numVertices];
         boolean[] visited = new boolean[numVertices];
+        // Every vertex is enqueued at most once, so one unboxed array serves all searches
+        int[] bfsQueue = new int[vertices.size()];
         int numComponents = 0;
 
         for (int v : vertices) {
             if (!visited[v]) {
                 numComponents++;
-                Queue<Integer> bfsQueue = new LinkedList<>();
-                bfsQueue.add(v);
+                int head = 0;
+                int tail = 0;
+                bfsQueue[tail++] = v;
                 visited[v] = true;
 
-                while (!bfsQueue.isEmpty()) {
-                    int currV = bfsQueue.remove();
+                while (head < tail) {
+                    int currV = bfsQueue[head++];
                     compMap[currV] = numComponents;
 
                     for (Edge e : g.getAdjList(currV)) {
                         int neighbor = (e.v1 == currV) ? e.v2 : e.v1;
                         if (!visited[neighbor]) {
                             visited[neighbor] = true;
-                            bfsQueue.add(neighbor);
+                            bfsQueue[tail++] = neighbor;
                         }
                     }
                 }
@@ -53,174 +56,659 @@ public class Main {
         return compMap;
     }
 
-    // =========================================================================
-    // Part 5 – Minimum Spanning Tree Methods (Prim's Algorithm)
-    // =========================================================================
     /**
-     * Gets the edge with the minimum weight on the "frontier" between visited
-     * and unvisited vertices. A frontier edge connects a visited vertex to an
-     * unvisited one.
-     * @param g The graph.
-     * @param visited A boolean array indicating which vertices have been visited.
-     * @return The minimum weight frontier edge.
+     * Calculates the connected components of a CSR snapshot using Breadth-First Search.
+     * Components are numbered exactly as by calculateConnectedComponents(MyGraph), but
+     * compMap doubles as the visited set and neighbours come from the flat arrays.
+     * @param g The graph snapshot to analyze.
+     * @return An integer array where the index represents the vertex and the
+     *         value represents its component number.
      */
-    public static Edge getMinFrontierEdge(MyGraph g, boolean[] visited) {
-        Edge minEdge = new Edge(-1, -1, Integer.MAX_VALUE);
-
-        for (int v : g.getVertices()) {
-            if (visited[v]) { // Only check edges from visited vertices
-                for (Edge e : g.getAdjList(v)) {
-                    // Check if one vertex is visited and the other is not
-                    boolean isV1Visited = visited[e.v1];
-                    boolean isV2Visited = visited[e.v2];
-                    if (isV1Visited != isV2Visited) { // This is a frontier edge
-                        if (e.weight < minEdge.weight) {
-                            minEdge = e;
+    public static int[] calculateConnectedComponents(CsrGraph g) {
+        int[] compMap = new int[g.labelBound()];
+        // Every vertex is enqueued at most once, so one array serves all searches
+        int[] bfsQueue = new int[g.vertexCount()];
+        int numComponents = 0;
+
+        for (int v : g.vertices) {
+            if (compMap[v] == 0) {
+                numComponents++;
+                int head = 0;
+                int tail = 0;
+                bfsQueue[tail++] = v;
+                compMap[v] = numComponents;
+
+                while (head < tail) {
+                    int currV = bfsQueue[head++];
+                    for (int i = g.offsets[currV]; i < g.offsets[currV + 1]; i++) {
+                        int neighbor = g.targets[i];
+                        if (compMap[neighbor] == 0) {
+                            compMap[neighbor] = numComponents;
+                            bfsQueue[tail++] = neighbor;
                         }
                     }
                 }
             }
         }
-        return minEdge;
+        return compMap;
     }
 
+    /**
+     * Calculates the connected components of a CSR snapshot in parallel, using a
+     * lock-free union-find over ranges of edges instead of a search. Components are
+     * numbered exactly as by calculateConnectedComponents.
+     * @param g The graph snapshot to analyze.
+     * @return An integer array where the index represents the vertex and the
+     *         value represents its component number.
+     */
+    public static int[] calculateConnectedComponentsParallel(CsrGraph g) {
+        return ParallelComponents.componentMap(g);
+    }
+
+    /**
+     * Calculates the connected components of a graph in parallel, on a CSR snapshot of it.
+     * @param g The graph to analyze.
+     * @return An integer array where the index represents the vertex and the
+     *         value represents its component number.
+     */
+    public static int[] calculateConnectedComponentsParallel(MyGraph g) {
+        return calculateConnectedComponentsParallel(g.freeze());
+    }
+
+    // =========================================================================
+    // Part 5 – Minimum Spanning Tree Methods (Prim's, Kruskal's and Borůvka's Algorithms)
+    // =========================================================================
     /**
      * Generates a Minimum Spanning Tree (MST) for a given graph using Prim's algorithm.
+     * Runs in O(E log V): the frontier is a heap of (weight, adjacency entry) pairs, where
+     * an entry numbers each adjacency list slot by vertex and then list position. Ties
+     * therefore pick the first edge in vertex and list order, as the earlier O(V * E)
+     * frontier scan did, and the tree is the one it built, edge for edge. Only the starting vertex's component is
+     * spanned; see minimumSpanningForest for disconnected graphs.
      * @param g The source graph.
      * @param startingVertex The vertex to start building the MST from.
      * @return A new MyGraph instance representing the MST.
      */
     public static MyGraph minimumSpanningTree(MyGraph g, int startingVertex) {
-        MyGraph mst = new MyGraph();
+        return primForest(g, startingVertex, false);
+    }
+
+    /**
+     * Generates a Minimum Spanning Forest using Prim's algorithm: one tree per connected
+     * component, each grown from the component's smallest vertex.
+     * @param g The source graph.
+     * @return A new MyGraph instance with all of g's vertices and the forest's edges.
+     */
+    public static MyGraph minimumSpanningForest(MyGraph g) {
+        return primForest(g, -1, true);
+    }
+
+    /**
+     * Shared Prim's driver: grows a tree from startingVertex, or from every vertex not yet
+     * spanned when allComponents is set.
+     */
+    private static MyGraph primForest(MyGraph g, int startingVertex, boolean allComponents) {
         List<Integer> vertices = g.getVertices();
-        int numVertices = 0;
-        if (!vertices.isEmpty()) {
-           numVertices = Collections.max(vertices) + 1;
+        // labels[k] is the k-th vertex; its adjacency entries are numbered from bases[k]
+        int[] labels = new int[vertices.size()];
+        int[] bases = new int[vertices.size()];
+        int entries = 0;
+        for (int k = 0; k < labels.length; k++) {
+            labels[k] = vertices.get(k);
+            bases[k] = entries;
+            entries += g.getAdjList(labels[k]).size();
         }
 
+        int numVertices = labels.length == 0 ? 0 : labels[labels.length - 1] + 1;
         boolean[] visited = new boolean[numVertices];
-        int visitedCount = 0;
+        int maxEdges = Math.max(labels.length - 1, 0);
+        // Tree edges as parallel arrays: from, to, weight
+        int[][] tree = { new int[maxEdges], new int[maxEdges], new int[maxEdges] };
+        int edgeCount = 0;
+        PackedMinHeap frontier = new PackedMinHeap(16);
+        if (allComponents) {
+            for (int k = 0; k < labels.length; k++) {
+                if (!visited[labels[k]]) {
+                    edgeCount = growPrimTree(g, k, labels, bases, visited, frontier, tree, edgeCount);
+                }
+            }
+        } else if (g.getAdjList(startingVertex) != null) {
+            int root = Arrays.binarySearch(labels, startingVertex);
+            edgeCount = growPrimTree(g, root, labels, bases, visited, frontier, tree, edgeCount);
+        }
+        // Same graph as adding every vertex, then every tree edge, to an empty MyGraph
+        return new MyGraph(labels, tree[0], tree[1], tree[2], edgeCount);
+    }
+
+    /**
+     * Grows one Prim's tree from the vertex labels[rootIndex], appending its edges to tree
+     * from index edgeCount.
+     * @return The new number of tree edges.
+     */
+    private static int growPrimTree(MyGraph g, int rootIndex, int[] labels, int[] bases, boolean[] visited,
+                                    PackedMinHeap frontier, int[][] tree, int edgeCount) {
+        visitForPrim(g, rootIndex, labels, bases, visited, frontier);
+        while (!frontier.isEmpty()) {
+            int entry = PackedMinHeap.index(frontier.poll());
+            // The owner of an entry is the last vertex whose base is <= entry
+            int k = lastAtMost(bases, entry);
+            Edge minEdge = g.getAdjList(labels[k]).get(entry - bases[k]);
+            int newV = (minEdge.v1 == labels[k]) ? minEdge.v2 : minEdge.v1;
+            if (visited[newV]) {
+                continue; // Both ends were visited after this entry was queued
+            }
 
-        // Add all vertices to the MST graph structure initially
-        for(int v : vertices) {
-            mst.addVertex(v);
+            tree[0][edgeCount] = minEdge.v1;
+            tree[1][edgeCount] = minEdge.v2;
+            tree[2][edgeCount] = minEdge.weight;
+            edgeCount++;
+            visitForPrim(g, Arrays.binarySearch(labels, newV), labels, bases, visited, frontier);
         }
+        return edgeCount;
+    }
 
-        // Start with the given starting vertex
-        if(vertices.contains(startingVertex)) {
-            visited[startingVertex] = true;
-            visitedCount++;
+    /**
+     * Marks labels[k] visited and queues its edges to unvisited vertices as frontier edges.
+     */
+    private static void visitForPrim(MyGraph g, int k, int[] labels, int[] bases,
+                                     boolean[] visited, PackedMinHeap frontier) {
+        int v = labels[k];
+        visited[v] = true;
+        List<Edge> adjList = g.getAdjList(v);
+        for (int j = 0; j < adjList.size(); j++) {
+            Edge e = adjList.get(j);
+            int neighbor = (e.v1 == v) ? e.v2 : e.v1;
+            if (!visited[neighbor]) {
+                frontier.add(PackedMinHeap.pack(e.weight, bases[k] + j));
+            }
         }
+    }
 
-        while(visitedCount < vertices.size()) {
-            Edge minEdge = getMinFrontierEdge(g, visited);
-            if(minEdge.v1 == -1) {
-                // No more reachable vertices
-                break;
+    /**
+     * @return The largest index k with sorted[k] <= value; sorted[0] must be <= value.
+     */
+    private static int lastAtMost(int[] sorted, int value) {
+        int lo = 0;
+        int hi = sorted.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (sorted[mid] <= value) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
             }
+        }
+        return lo;
+    }
 
-            mst.addEdge(minEdge.v1, minEdge.v2, minEdge.weight);
+    /**
+     * Generates a Minimum Spanning Tree of a CSR snapshot using Prim's algorithm, the same
+     * way as minimumSpanningTree(MyGraph, int), so the tree is identical.
+     * @param g The source graph snapshot.
+     * @param startingVertex The vertex to start building the MST from.
+     * @return A snapshot with all of g's vertices and the MST edges.
+     */
+    public static CsrGraph minimumSpanningTree(CsrGraph g, int startingVertex) {
+        return primForest(g, startingVertex, false);
+    }
+
+    /**
+     * Generates a Minimum Spanning Forest of a CSR snapshot, one tree per component.
+     * @param g The source graph snapshot.
+     * @return A snapshot with all of g's vertices and the forest's edges.
+     */
+    public static CsrGraph minimumSpanningForest(CsrGraph g) {
+        return primForest(g, -1, true);
+    }
 
-            // Mark the new vertex as visited
-            if (!visited[minEdge.v1]) {
-                visited[minEdge.v1] = true;
-                visitedCount++;
+    private static CsrGraph primForest(CsrGraph g, int startingVertex, boolean allComponents) {
+        boolean[] visited = new boolean[g.labelBound()];
+        int maxEdges = Math.max(g.vertexCount() - 1, 0);
+        // Tree edges as parallel arrays: from, to, weight
+        int[][] tree = { new int[maxEdges], new int[maxEdges], new int[maxEdges] };
+        int edgeCount = 0;
+        PackedMinHeap frontier = new PackedMinHeap(16);
+
+        if (allComponents) {
+            for (int v : g.vertices) {
+                if (!visited[v]) {
+                    edgeCount = growPrimTree(g, v, visited, frontier, tree, edgeCount);
+                }
             }
-            if (!visited[minEdge.v2]) {
-                visited[minEdge.v2] = true;
-                visitedCount++;
+        } else if (g.hasVertex(startingVertex)) {
+            edgeCount = growPrimTree(g, startingVertex, visited, frontier, tree, edgeCount);
+        }
+        return CsrGraph.fromEdges(g.vertices, tree[0], tree[1], tree[2], edgeCount);
+    }
+
+    /**
+     * Grows one Prim's tree from root, appending its edges to tree from index edgeCount.
+     * @return The new number of tree edges.
+     */
+    private static int growPrimTree(CsrGraph g, int root, boolean[] visited, PackedMinHeap frontier,
+                                    int[][] tree, int edgeCount) {
+        visitForPrim(g, root, visited, frontier);
+        while (!frontier.isEmpty()) {
+            int entry = PackedMinHeap.index(frontier.poll());
+            int newV = g.targets[entry];
+            if (visited[newV]) {
+                continue; // Both ends were visited after this entry was queued
             }
+            tree[0][edgeCount] = g.sourceOf(entry);
+            tree[1][edgeCount] = newV;
+            tree[2][edgeCount] = g.weights[entry];
+            edgeCount++;
+            visitForPrim(g, newV, visited, frontier);
         }
-        return mst;
+        return edgeCount;
     }
 
-    // =========================================================================
-    // Part 6 – Shortest Path Methods (Dijkstra's Algorithm)
-    // =========================================================================
     /**
-     * Searches the list of unvisited vertices for the one with the minimum
-     * distance to the starting vertex.
-     * @param g The graph.
-     * @param unvisitedList A list of vertices yet to be processed.
-     * @param dist The array of current shortest distances from the source.
-     * @return The unvisited vertex with the minimum distance.
+     * Marks a vertex visited and queues its edges to unvisited vertices as frontier edges.
      */
-    public static int getMinDistVertex(MyGraph g, List<Integer> unvisitedList, int[] dist) {
-        int minDist = Integer.MAX_VALUE;
-        int minVertex = -1;
-
-        for (int v : unvisitedList) {
-            if (dist[v] < minDist) {
-                minDist = dist[v];
-                minVertex = v;
+    private static void visitForPrim(CsrGraph g, int v, boolean[] visited, PackedMinHeap frontier) {
+        visited[v] = true;
+        for (int i = g.offsets[v]; i < g.offsets[v + 1]; i++) {
+            if (!visited[g.targets[i]]) {
+                frontier.add(PackedMinHeap.pack(g.weights[i], i));
             }
         }
-        return minVertex;
     }
 
+    /**
+     * Generates a Minimum Spanning Forest using Kruskal's algorithm, which suits sparse
+     * graphs: every edge is sorted once by weight with Arrays.parallelSort, then edges
+     * are taken in order unless a union-find shows both ends are already joined.
+     * Runs in O(E log E). For a connected graph the result is a Minimum Spanning Tree
+     * with the same total weight as minimumSpanningTree's, though equal weights may be
+     * broken differently.
+     * @param g The source graph.
+     * @return A new MyGraph instance with all of g's vertices and the forest's edges.
+     */
+    public static MyGraph minimumSpanningForestKruskal(MyGraph g) {
+        int[] labels = sortedLabels(g);
+        Edge[] edges = uniqueEdges(g, labels);
+        // Sort keys pack (weight, edge index), so equal weights keep the edge order
+        long[] keys = new long[edges.length];
+        for (int i = 0; i < edges.length; i++) {
+            keys[i] = PackedMinHeap.pack(edges[i].weight, i);
+        }
+        Arrays.parallelSort(keys);
+
+        int labelBound = labels.length == 0 ? 0 : labels[labels.length - 1] + 1;
+        UnionFind components = new UnionFind(labelBound);
+        int maxEdges = Math.max(labels.length - 1, 0);
+        long[] treeKeys = new long[maxEdges];
+        int treeEdges = 0;
+        for (int i = 0; i < keys.length && treeEdges < maxEdges; i++) {
+            Edge e = edges[PackedMinHeap.index(keys[i])];
+            if (components.union(e.v1, e.v2)) {
+                treeKeys[treeEdges++] = keys[i];
+            }
+        }
+        return forestOf(labels, edges, treeKeys, treeEdges);
+    }
+
+    /**
+     * Generates a Minimum Spanning Forest using Borůvka's algorithm, in parallel. Each
+     * round finds every component's cheapest outgoing edge with a fork/join pass over the
+     * edges, then merges the components along those edges in a concurrent union-find,
+     * at least halving their number. Edges are ordered by (weight, edge index) as in
+     * minimumSpanningForestKruskal, which makes the forest unique, so the result is the
+     * same graph Kruskal's algorithm builds, whatever the number of threads.
+     * @param g The source graph.
+     * @return A new MyGraph instance with all of g's vertices and the forest's edges.
+     */
+    public static MyGraph minimumSpanningForestBoruvka(MyGraph g) {
+        int[] labels = sortedLabels(g);
+        Edge[] edges = uniqueEdges(g, labels);
+        // Flat arrays keep the rounds' scans off the Edge objects
+        int[] from = new int[edges.length];
+        int[] to = new int[edges.length];
+        long[] keys = new long[edges.length];
+        for (int i = 0; i < edges.length; i++) {
+            from[i] = edges[i].v1;
+            to[i] = edges[i].v2;
+            keys[i] = PackedMinHeap.pack(edges[i].weight, i);
+        }
+
+        int labelBound = labels.length == 0 ? 0 : labels[labels.length - 1] + 1;
+        long[] treeKeys = ParallelBoruvka.minimumSpanningForest(labelBound, from, to, keys);
+        Arrays.sort(treeKeys);
+        return forestOf(labels, edges, treeKeys, treeKeys.length);
+    }
+
+    /**
+     * @return The vertices of g in ascending order.
+     */
+    private static int[] sortedLabels(MyGraph g) {
+        List<Integer> vertices = g.getVertices();
+        int[] labels = new int[vertices.size()];
+        for (int k = 0; k < labels.length; k++) {
+            labels[k] = vertices.get(k);
+        }
+        return labels;
+    }
+
+    /**
+     * Lists every edge of g once, in the order of its v1's adjacency list, leaving out
+     * self-loops since they never join two trees.
+     */
+    private static Edge[] uniqueEdges(MyGraph g, int[] labels) {
+        int edgeTotal = 0;
+        for (int v : labels) {
+            edgeTotal += g.getAdjList(v).size();
+        }
+        // Each edge sits in both endpoints' lists; keep it once, from its v1 list
+        Edge[] edges = new Edge[edgeTotal / 2];
+        int edgeCount = 0;
+        for (int v : labels) {
+            for (Edge e : g.getAdjList(v)) {
+                if (e.v1 == v && e.v2 != v) {
+                    edges[edgeCount++] = e;
+                }
+            }
+        }
+        return Arrays.copyOf(edges, edgeCount);
+    }
+
+    /**
+     * Builds a graph with the given vertices and the edges named by the first count
+     * keys, added in key order.
+     */
+    private static MyGraph forestOf(int[] labels, Edge[] edges, long[] keys, int count) {
+        // Tree edges as parallel arrays: from, to, weight
+        int[][] tree = { new int[count], new int[count], new int[count] };
+        for (int i = 0; i < count; i++) {
+            Edge e = edges[PackedMinHeap.index(keys[i])];
+            tree[0][i] = e.v1;
+            tree[1][i] = e.v2;
+            tree[2][i] = e.weight;
+        }
+        return new MyGraph(labels, tree[0], tree[1], tree[2], count);
+    }
+
+    // =========================================================================
+    // Part 6 – Shortest Path Methods (Dijkstra's Algorithm, Delta-Stepping, Bidirectional)
+    // =========================================================================
     /**
      * Calculates the shortest paths from a starting vertex to all other vertices
-     * using Dijkstra's algorithm.
+     * using Dijkstra's algorithm, and prints the distance and previous tables.
      * @param g The graph.
      * @param startingVertex The starting vertex for the paths.
      */
     public static void shortestPath(MyGraph g, int startingVertex) {
-        List<Integer> vertices = g.getVertices();
-        int numVertices = 0;
-        if(!vertices.isEmpty()){
-            numVertices = Collections.max(vertices) + 1;
+        ShortestPathResult result = shortestPath(g, startingVertex, ShortestPathResult.NO_TARGET);
+        int[] vertices = g.getVertices().stream().mapToInt(Integer::intValue).toArray();
+        printShortestPathData(result, vertices);
+    }
+
+    /**
+     * Dijkstra's algorithm in O(E log V). The unvisited vertices with a known distance
+     * are kept in an indexed heap instead of a list scanned for the minimum, and a
+     * settled array replaces unvisitedList.contains. Equal distances are settled in
+     * ascending vertex order, as the list scan did, so the results are unchanged.
+     * @param g The graph.
+     * @param startingVertex The starting vertex for the paths.
+     * @param target Stop as soon as this vertex is settled, or ShortestPathResult.NO_TARGET
+     *               to settle every reachable vertex.
+     * @return The distances, previous vertices and number of settled vertices.
+     */
+    public static ShortestPathResult shortestPath(MyGraph g, int startingVertex, int target) {
+        if (g.getAdjList(startingVertex) == null) {
+            throw new IllegalArgumentException("Starting vertex " + startingVertex + " is not in the graph.");
         }
-        
+        List<Integer> vertices = g.getVertices();
+        // The vertex list is sorted, so the last vertex is the largest
+        int numVertices = vertices.get(vertices.size() - 1) + 1;
+
         int[] dist = new int[numVertices];
         int[] previous = new int[numVertices];
-        List<Integer> unvisitedList = new ArrayList<>();
-
-        // Initialization
-        for (int v : vertices) {
-            dist[v] = Integer.MAX_VALUE;
-            previous[v] = -1;
-            unvisitedList.add(v);
-        }
+        boolean[] settled = new boolean[numVertices];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        Arrays.fill(previous, -1);
         dist[startingVertex] = 0;
 
-        while (!unvisitedList.isEmpty()) {
-            int currV = getMinDistVertex(g, unvisitedList, dist);
-            
-            // If getMinDistVertex returns -1, it means remaining vertices are unreachable
-            if (currV == -1) {
-                break; 
+        IndexedMinHeap unvisited = new IndexedMinHeap(numVertices);
+        unvisited.addOrDecrease(startingVertex, 0);
+        int settledCount = 0;
+        while (!unvisited.isEmpty()) {
+            int currV = unvisited.pollMin();
+            settled[currV] = true;
+            settledCount++;
+            if (currV == target) {
+                break;
             }
 
-            unvisitedList.remove(Integer.valueOf(currV));
-
             for (Edge e : g.getAdjList(currV)) {
                 int neighbor = (e.v1 == currV) ? e.v2 : e.v1;
-                if (unvisitedList.contains(neighbor)) {
+                if (!settled[neighbor]) {
                     int possibleDist = dist[currV] + e.weight;
                     if (possibleDist < dist[neighbor]) {
                         dist[neighbor] = possibleDist;
                         previous[neighbor] = currV;
+                        unvisited.addOrDecrease(neighbor, possibleDist);
                     }
                 }
             }
         }
+        return new ShortestPathResult(startingVertex, target, dist, previous, settled, settledCount);
+    }
+
+    /**
+     * Calculates and prints the shortest paths from a starting vertex of a CSR snapshot,
+     * in the same format as shortestPath(MyGraph, int).
+     * @param g The graph snapshot.
+     * @param startingVertex The starting vertex for the paths.
+     */
+    public static void shortestPath(CsrGraph g, int startingVertex) {
+        printShortestPathData(shortestPath(g, startingVertex, ShortestPathResult.NO_TARGET), g.vertices);
+    }
+
+    /**
+     * Dijkstra's algorithm on a CSR snapshot; the same search as
+     * shortestPath(MyGraph, int, int), reading the flat adjacency arrays.
+     * @param g The graph snapshot.
+     * @param startingVertex The starting vertex for the paths.
+     * @param target Stop as soon as this vertex is settled, or ShortestPathResult.NO_TARGET
+     *               to settle every reachable vertex.
+     * @return The distances, previous vertices and number of settled vertices.
+     */
+    public static ShortestPathResult shortestPath(CsrGraph g, int startingVertex, int target) {
+        if (!g.hasVertex(startingVertex)) {
+            throw new IllegalArgumentException("Starting vertex " + startingVertex + " is not in the graph.");
+        }
+        int numVertices = g.labelBound();
+        int[] dist = new int[numVertices];
+        int[] previous = new int[numVertices];
+        boolean[] settled = new boolean[numVertices];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        Arrays.fill(previous, -1);
+        dist[startingVertex] = 0;
+
+        IndexedMinHeap unvisited = new IndexedMinHeap(numVertices);
+        unvisited.addOrDecrease(startingVertex, 0);
+        int settledCount = 0;
+        while (!unvisited.isEmpty()) {
+            int currV = unvisited.pollMin();
+            settled[currV] = true;
+            settledCount++;
+            if (currV == target) {
+                break;
+            }
 
-        // Print the results as specified
+            for (int i = g.offsets[currV]; i < g.offsets[currV + 1]; i++) {
+                int neighbor = g.targets[i];
+                if (!settled[neighbor]) {
+                    int possibleDist = dist[currV] + g.weights[i];
+                    if (possibleDist < dist[neighbor]) {
+                        dist[neighbor] = possibleDist;
+                        previous[neighbor] = currV;
+                        unvisited.addOrDecrease(neighbor, possibleDist);
+                    }
+                }
+            }
+        }
+        return new ShortestPathResult(startingVertex, target, dist, previous, settled, settledCount);
+    }
+
+    /**
+     * Calculates the shortest paths from a starting vertex in parallel by delta-stepping,
+     * with a bucket width picked from the weights.
+     * @param g The graph snapshot.
+     * @param startingVertex The starting vertex for the paths.
+     * @return The same distances and previous vertices as
+     *         shortestPath(g, startingVertex, ShortestPathResult.NO_TARGET).
+     */
+    public static ShortestPathResult shortestPathParallel(CsrGraph g, int startingVertex) {
+        return shortestPathParallel(g, startingVertex, DeltaStepping.defaultDelta(g));
+    }
+
+    /**
+     * Calculates the shortest paths from a starting vertex in parallel by delta-stepping.
+     * Small graphs, where the parallel passes cost more than they save, and graphs with
+     * weights that are not positive use the heap-based Dijkstra instead.
+     * @param g The graph snapshot.
+     * @param startingVertex The starting vertex for the paths.
+     * @param delta The bucket width, at least 1. Smaller widths do less redundant work,
+     *              larger ones give each parallel pass more vertices.
+     * @return The same distances and previous vertices as
+     *         shortestPath(g, startingVertex, ShortestPathResult.NO_TARGET).
+     */
+    public static ShortestPathResult shortestPathParallel(CsrGraph g, int startingVertex, int delta) {
+        if (!g.hasVertex(startingVertex)) {
+            throw new IllegalArgumentException("Starting vertex " + startingVertex + " is not in the graph.");
+        }
+        if (delta < 1) {
+            throw new IllegalArgumentException("Delta must be at least 1: " + delta);
+        }
+        if (g.vertexCount() < PARALLEL_SHORTEST_PATH_MIN_VERTICES || !DeltaStepping.hasPositiveWeights(g)) {
+            return shortestPath(g, startingVertex, ShortestPathResult.NO_TARGET);
+        }
+        return DeltaStepping.shortestPaths(g, startingVertex, delta);
+    }
+
+    /**
+     * Finds a shortest path between two vertices with bidirectional Dijkstra: one search
+     * grows from the source and one from the target (the graph is undirected), always
+     * advancing the side whose next vertex is closer. Every edge scanned between the two
+     * searches offers a candidate path, and the searches stop once the two next
+     * distances add up to at least the best candidate, so each covers roughly a ball of
+     * half the path length instead of the whole radius. When several shortest paths
+     * exist, the one found may differ from shortestPath's.
+     * @param g The graph snapshot.
+     * @param source The starting vertex.
+     * @param target The vertex to find a path to.
+     * @return The result: pathTo(target) and getDistance(target) give the path, path
+     *         vertices and the source side's settled vertices have final distances, and
+     *         getSettledCount() counts the vertices settled by both searches.
+     */
+    public static ShortestPathResult shortestPathBidirectional(CsrGraph g, int source, int target) {
+        if (!g.hasVertex(source) || !g.hasVertex(target)) {
+            throw new IllegalArgumentException("Both vertices must exist in the graph.");
+        }
+        int numVertices = g.labelBound();
+        // Index 0 is the search from the source, 1 the search from the target
+        int[][] dist = new int[2][numVertices];
+        int[][] previous = new int[2][numVertices];
+        boolean[][] settled = new boolean[2][numVertices];
+        IndexedMinHeap[] unvisited = { new IndexedMinHeap(numVertices), new IndexedMinHeap(numVertices) };
+        for (int side = 0; side < 2; side++) {
+            Arrays.fill(dist[side], Integer.MAX_VALUE);
+            Arrays.fill(previous[side], -1);
+        }
+        dist[0][source] = 0;
+        dist[1][target] = 0;
+        unvisited[0].addOrDecrease(source, 0);
+        unvisited[1].addOrDecrease(target, 0);
+
+        // The best path so far runs source .. meetFrom, then meetTo .. target
+        long best = source == target ? 0 : Long.MAX_VALUE;
+        int meetFrom = source;
+        int meetTo = target;
+        int settledCount = 0;
+        while (!unvisited[0].isEmpty() && !unvisited[1].isEmpty()) {
+            int next0 = unvisited[0].keyOf(unvisited[0].peekMin());
+            int next1 = unvisited[1].keyOf(unvisited[1].peekMin());
+            if ((long) next0 + next1 >= best) {
+                break; // No unsettled vertex can lie on a shorter path
+            }
+            int side = next0 <= next1 ? 0 : 1;
+            int other = 1 - side;
+            int currV = unvisited[side].pollMin();
+            settled[side][currV] = true;
+            settledCount++;
+
+            for (int i = g.offsets[currV]; i < g.offsets[currV + 1]; i++) {
+                int neighbor = g.targets[i];
+                int possibleDist = dist[side][currV] + g.weights[i];
+                if (dist[other][neighbor] != Integer.MAX_VALUE
+                        && (long) possibleDist + dist[other][neighbor] < best) {
+                    best = (long) possibleDist + dist[other][neighbor];
+                    meetFrom = side == 0 ? currV : neighbor;
+                    meetTo = side == 0 ? neighbor : currV;
+                }
+                if (!settled[side][neighbor] && possibleDist < dist[side][neighbor]) {
+                    dist[side][neighbor] = possibleDist;
+                    previous[side][neighbor] = currV;
+                    unvisited[side].addOrDecrease(neighbor, possibleDist);
+                }
+            }
+        }
+
+        // Report from the source side, with the target side's half of the path attached
+        int[] resultDist = dist[0];
+        int[] resultPrevious = previous[0];
+        boolean[] resultSettled = settled[0];
+        if (source == target) {
+            resultSettled[source] = true;
+        } else if (best != Long.MAX_VALUE) {
+            for (int v = meetFrom; v != -1; v = previous[0][v]) {
+                resultSettled[v] = true;
+            }
+            int prev = meetFrom;
+            for (int v = meetTo; v != -1; v = previous[1][v]) {
+                resultDist[v] = (int) (best - dist[1][v]);
+                resultPrevious[v] = prev;
+                resultSettled[v] = true;
+                prev = v;
+            }
+        }
+        return new ShortestPathResult(source, target, resultDist, resultPrevious, resultSettled, settledCount);
+    }
+
+    /**
+     * Bidirectional Dijkstra on a CSR snapshot of a graph. The snapshot costs O(V + E),
+     * so for repeated queries freeze the graph once and query the snapshot.
+     * @param g The graph.
+     * @param source The starting vertex.
+     * @param target The vertex to find a path to.
+     * @return See shortestPathBidirectional(CsrGraph, int, int).
+     */
+    public static ShortestPathResult shortestPathBidirectional(MyGraph g, int source, int target) {
+        return shortestPathBidirectional(g.freeze(), source, target);
+    }
+
+    /**
+     * Prints the distance and previous tables of a shortest path search.
+     * @param result The search result.
+     * @param vertices The vertices to list, in order.
+     */
+    private static void printShortestPathData(ShortestPathResult result, int[] vertices) {
         System.out.println("Shortest Path Data");
-        System.out.println("Starting Vertex : " + startingVertex);
+        System.out.println("Starting Vertex : " + result.getSource());
         System.out.println();
         System.out.println("Vertex\tDist");
-        for(int v : vertices) {
-            System.out.println(v + "\t" + dist[v]);
+        for (int v : vertices) {
+            System.out.println(v + "\t" + result.getDistance(v));
         }
         System.out.println();
         System.out.println("Vertex\tPrevious");
-        for(int v : vertices) {
-            System.out.println(v + "\t" + previous[v]);
+        for (int v : vertices) {
+            System.out.println(v + "\t" + result.getPrevious(v));
         }
     }
 
-
     // =========================================================================
     // Part 7 – Main
     // =========================================================================
@@ -248,6 +736,10 @@ public class Main {
                  System.out.println(i + "\t" + components[i]);
             }
         }
+        // The same answers from the graph's incremental union-find, without a search
+        System.out.println("Components: " + ccGraph.componentCount()
+                + ", 0 and 9 connected: " + ccGraph.connected(0, 9)
+                + ", component map matches: " + Arrays.equals(components, ccGraph.componentMap()));
         System.out.println("\n-----------------------------------\n");
 
 
@@ -261,12 +753,45 @@ public class Main {
         
         // Call shortestPath
         shortestPath(spMstGraph, 0);
+
+        // Point-to-point query that stops once the target is settled
+        ShortestPathResult toNine = shortestPath(spMstGraph, 0, 9);
+        System.out.println();
+        System.out.println("Path 0 -> 9: " + toNine.pathTo(9) + ", distance " + toNine.getDistance(9)
+                + ", settled " + toNine.getSettledCount() + " of " + spMstGraph.getVertices().size() + " vertices");
+        ShortestPathResult bidirectional = shortestPathBidirectional(spMstGraph, 0, 9);
+        System.out.println("Bidirectional 0 -> 9: " + bidirectional.pathTo(9) + ", distance "
+                + bidirectional.getDistance(9) + ", settled " + bidirectional.getSettledCount());
+        AltIndex alt = new AltIndex(spMstGraph, 2);
+        ShortestPathResult altToNine = alt.shortestPath(0, 9);
+        System.out.println("ALT 0 -> 9 (landmarks " + Arrays.toString(alt.getLandmarks()) + "): "
+                + altToNine.pathTo(9) + ", distance " + altToNine.getDistance(9)
+                + ", settled " + altToNine.getSettledCount());
         System.out.println("\n-----------------------------------\n");
 
         // Call minimumSpanningTree and show the result
         System.out.println("MST Graph");
         MyGraph mstResult = minimumSpanningTree(spMstGraph, 0);
         mstResult.printGraph();
+        System.out.println();
+
+        // ccGraph has two components, so it needs a forest rather than a single tree
+        System.out.println("Minimum Spanning Forest of the components graph");
+        minimumSpanningForest(ccGraph).printGraph();
+        System.out.println();
+
+        System.out.println("Kruskal MST Graph");
+        minimumSpanningForestKruskal(spMstGraph).printGraph();
+        System.out.println("\n-----------------------------------\n");
+
+        // --- Same algorithms on frozen CSR snapshots ---
+        System.out.println("--- CSR Snapshot Test ---");
+        int[] csrComponents = calculateConnectedComponents(ccGraph.freeze());
+        System.out.println("CSR components match: " + Arrays.equals(components, csrComponents));
+        System.out.println("Parallel components match: "
+                + Arrays.equals(components, calculateConnectedComponentsParallel(ccGraph)));
+        System.out.println("CSR MST Graph");
+        minimumSpanningTree(spMstGraph.freeze(), 0).printGraph();
     }
 
     private static MyGraph getGraph() {
@@ -0,0 +1,95 @@
+package com.example.hw;
+
+import java.util.Random;
+
+/**
+ * Times Prim's (Main.minimumSpanningForest), Kruskal's (Main.minimumSpanningForestKruskal)
+ * and parallel Borůvka's (Main.minimumSpanningForestBoruvka) algorithms on a sparse and a
+ * dense random graph, and checks that all forests have the same total weight. Borůvka's
+ * passes run in the common ForkJoinPool; set
+ * -Djava.util.concurrent.ForkJoinPool.common.parallelism to vary its thread count.
+ * Usage: java MstBenchmark [sparseVertices] [denseVertices] [rounds]
+ */
+public class MstBenchmark {
+
+    /**
+     * Runs the benchmark.
+     * @param args Optional vertex counts of the sparse graph (default 200,000, with about
+     *             4 edges per vertex) and the dense graph (default 3,000, with about a
+     *             quarter of all vertex pairs as edges), and the rounds (default 3).
+     */
+    public static void main(String[] args) {
+        int sparseVertices = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int denseVertices = args.length > 1 ? Integer.parseInt(args[1]) : 3_000;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+
+        Random rand = new Random(42);
+        run("sparse", randomGraph(sparseVertices, 4L * sparseVertices, rand), rounds);
+        run("dense", randomGraph(denseVertices, (long) denseVertices * (denseVertices - 1) / 8, rand), rounds);
+    }
+
+    /**
+     * Builds a connected graph: a path through all vertices plus random edges, with
+     * weights from 1 to 1000.
+     */
+    private static MyGraph randomGraph(int vertexCount, long edgeCount, Random rand) {
+        GraphBuilder builder = new GraphBuilder();
+        for (int v = 0; v + 1 < vertexCount; v++) {
+            builder.addEdge(v, v + 1, 1 + rand.nextInt(1000));
+        }
+        for (long e = vertexCount - 1; e < edgeCount; e++) {
+            builder.addEdge(rand.nextInt(vertexCount), rand.nextInt(vertexCount), 1 + rand.nextInt(1000));
+        }
+        return builder.build();
+    }
+
+    private static void run(String name, MyGraph g, int rounds) {
+        long edgeTotal = 0;
+        for (int v : g.getVertices()) {
+            edgeTotal += g.getAdjList(v).size();
+        }
+        System.out.printf("%s graph: %d vertices, %d edges, best of %d rounds%n",
+                name, g.getVertices().size(), edgeTotal / 2, rounds);
+        System.out.printf("%-10s %10s %14s%n", "MST", "ms", "total weight");
+
+        long expected = -1;
+        for (String algorithm : new String[] { "Prim", "Kruskal", "Boruvka" }) {
+            long best = Long.MAX_VALUE;
+            MyGraph forest = null;
+            for (int r = 0; r < rounds; r++) {
+                long start = System.nanoTime();
+                switch (algorithm) {
+                    case "Prim":
+                        forest = Main.minimumSpanningForest(g);
+                        break;
+                    case "Kruskal":
+                        forest = Main.minimumSpanningForestKruskal(g);
+                        break;
+                    default:
+                        forest = Main.minimumSpanningForestBoruvka(g);
+                        break;
+                }
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            long weight = totalWeight(forest);
+            System.out.printf("%-10s %10.1f %14d%n", algorithm, best / 1e6, weight);
+            // Every minimum spanning forest has the same total weight
+            if (expected >= 0 && weight != expected) {
+                throw new IllegalStateException(algorithm + " built a forest of weight " + weight
+                        + " instead of " + expected);
+            }
+            expected = weight;
+        }
+        System.out.println();
+    }
+
+    private static long totalWeight(MyGraph g) {
+        long total = 0;
+        for (int v : g.getVertices()) {
+            for (Edge e : g.getAdjList(v)) {
+                total += e.weight;
+            }
+        }
+        return total / 2;
+    }
+}
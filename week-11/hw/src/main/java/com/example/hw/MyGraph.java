@@ -1,6 +1,7 @@
 package com.example.hw;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -14,6 +15,11 @@ public class MyGraph {
     private final List<Integer> vertices;
     // Member variable for the adjacency lists (map of vertex to list of edges)
     private final Map<Integer, List<Edge>> adjLists;
+    // Incremental connectivity: null until the first query, then kept up to date by
+    // addVertex and addEdge. smallest[r] is the smallest vertex in root r's component.
+    private UnionFind connectivity;
+    private int[] smallest;
+    private int componentCount;
 
     /**
      * Default constructor. Initializes the vertex list and adjacency list map.
@@ -23,15 +29,56 @@ public class MyGraph {
         this.adjLists = new HashMap<>();
     }
 
+    /**
+     * Bulk constructor used by GraphBuilder. Every list is allocated at its final size,
+     * and edges are appended in the given order, as addEdge would have done.
+     * @param sortedVertices The vertex labels, sorted ascending and without duplicates.
+     * @param from First endpoint of each edge.
+     * @param to Second endpoint of each edge.
+     * @param weights Weight of each edge.
+     * @param edgeCount The number of edges in the arrays to use.
+     */
+    MyGraph(int[] sortedVertices, int[] from, int[] to, int[] weights, int edgeCount) {
+        int labelBound = sortedVertices.length == 0 ? 0 : sortedVertices[sortedVertices.length - 1] + 1;
+        int[] degree = new int[labelBound];
+        for (int e = 0; e < edgeCount; e++) {
+            degree[from[e]]++;
+            degree[to[e]]++;
+        }
+
+        this.vertices = new ArrayList<>(sortedVertices.length);
+        this.adjLists = new HashMap<>(sortedVertices.length * 4 / 3 + 1);
+        // Look the lists up by label through an array rather than the map
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        List<Edge>[] lists = new List[labelBound];
+        for (int v : sortedVertices) {
+            vertices.add(v);
+            lists[v] = new ArrayList<>(degree[v]);
+            adjLists.put(v, lists[v]);
+        }
+        for (int e = 0; e < edgeCount; e++) {
+            Edge edge = new Edge(from[e], to[e], weights[e]);
+            lists[from[e]].add(edge);
+            lists[to[e]].add(edge);
+        }
+    }
+
     /**
      * Adds a vertex to the graph.
      * @param v The integer label of the vertex to add.
      */
     public void addVertex(int v) {
         if (!adjLists.containsKey(v)) {
-            vertices.add(v);
-            Collections.sort(vertices); // Keep vertex list sorted for consistent output
+            // Insert at the sorted position to keep the vertex list sorted for consistent output
+            int insertAt = -Collections.binarySearch(vertices, v) - 1;
+            vertices.add(insertAt, v);
             adjLists.put(v, new ArrayList<>());
+            if (connectivity != null) {
+                if (v >= connectivity.labelBound()) {
+                    growConnectivity(Math.max(v + 1, 2 * connectivity.labelBound()));
+                }
+                componentCount++;
+            }
         }
     }
 
@@ -50,6 +97,9 @@ public class MyGraph {
         // Add the edge to the adjacency lists of BOTH vertices for an undirected graph
         adjLists.get(v1).add(edge);
         adjLists.get(v2).add(edge);
+        if (connectivity != null) {
+            join(v1, v2);
+        }
     }
 
     // Getter methods to allow other classes to access graph data
@@ -61,6 +111,134 @@ public class MyGraph {
         return this.adjLists.get(v);
     }
 
+    /**
+     * Checks whether two vertices are connected. The first connectivity query builds a
+     * union-find over the graph in O(V + E); from then on addEdge keeps it up to date,
+     * so every query runs in nearly constant time without a search.
+     * @param u A vertex.
+     * @param v A vertex.
+     * @return true if there is a path between u and v.
+     */
+    public boolean connected(int u, int v) {
+        checkVertex(u);
+        checkVertex(v);
+        return connectivity().connected(u, v);
+    }
+
+    /**
+     * Identifies a vertex's component by its smallest vertex, which stays the same until
+     * an edge joins the component to one with a smaller vertex.
+     * @param v A vertex.
+     * @return The smallest vertex connected to v.
+     */
+    public int componentOf(int v) {
+        checkVertex(v);
+        return smallest[connectivity().find(v)];
+    }
+
+    /**
+     * @return The number of connected components.
+     */
+    public int componentCount() {
+        connectivity();
+        return componentCount;
+    }
+
+    /**
+     * Materializes the component numbers from the union-find, without a search.
+     * @return An integer array where the index represents the vertex and the value
+     *         represents its component number, the same as from
+     *         Main.calculateConnectedComponents.
+     */
+    public int[] componentMap() {
+        UnionFind uf = connectivity();
+        int[] compMap = new int[vertices.isEmpty() ? 0 : vertices.get(vertices.size() - 1) + 1];
+        int numComponents = 0;
+        // Components are numbered in order of their smallest vertex, like the BFS does
+        for (int v : vertices) {
+            int first = smallest[uf.find(v)];
+            compMap[v] = (first == v) ? ++numComponents : compMap[first];
+        }
+        return compMap;
+    }
+
+    private void checkVertex(int v) {
+        if (!adjLists.containsKey(v)) {
+            throw new IllegalArgumentException("Vertex " + v + " is not in the graph.");
+        }
+    }
+
+    /**
+     * @return The union-find, built from the current edges on first use.
+     */
+    private UnionFind connectivity() {
+        if (connectivity == null) {
+            connectivity = new UnionFind(0);
+            smallest = new int[0];
+            growConnectivity(vertices.isEmpty() ? 0 : vertices.get(vertices.size() - 1) + 1);
+            componentCount = vertices.size();
+            for (int v : vertices) {
+                for (Edge e : adjLists.get(v)) {
+                    if (e.v1 == v) { // Each edge once, from its first endpoint's list
+                        join(e.v1, e.v2);
+                    }
+                }
+            }
+        }
+        return connectivity;
+    }
+
+    private void growConnectivity(int labelBound) {
+        int old = smallest.length;
+        connectivity.grow(labelBound);
+        smallest = Arrays.copyOf(smallest, labelBound);
+        for (int v = old; v < labelBound; v++) {
+            smallest[v] = v;
+        }
+    }
+
+    private void join(int v1, int v2) {
+        int min = Math.min(smallest[connectivity.find(v1)], smallest[connectivity.find(v2)]);
+        if (connectivity.union(v1, v2)) {
+            smallest[connectivity.find(v1)] = min;
+            componentCount--;
+        }
+    }
+
+    /**
+     * Takes an immutable compressed-sparse-row snapshot of the graph. Each vertex keeps
+     * its neighbours in the same order as its adjacency list here.
+     * @return The CSR snapshot; later changes to this graph do not affect it.
+     */
+    public CsrGraph freeze() {
+        int[] labels = new int[vertices.size()];
+        int entries = 0;
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = vertices.get(i);
+            entries += adjLists.get(labels[i]).size();
+        }
+
+        int labelBound = labels.length == 0 ? 0 : labels[labels.length - 1] + 1;
+        int[] offsets = new int[labelBound + 1];
+        int[] targets = new int[entries];
+        int[] weights = new int[entries];
+        int next = 0;
+        int label = 0;
+        for (int v : labels) {
+            // Labels that are not vertices get empty ranges
+            while (label <= v) {
+                offsets[label++] = next;
+            }
+            for (Edge e : adjLists.get(v)) {
+                targets[next] = (e.v1 == v) ? e.v2 : e.v1;
+                weights[next] = e.weight;
+                next++;
+            }
+        }
+        offsets[labelBound] = next;
+        return new CsrGraph(labels, offsets, targets, weights);
+    }
+
     // Utility method to display the graph for verification
     public void printGraph() {
         System.out.println("V = " + vertices.toString().replace("[", "{ ").replace("]", " }"));
@@ -0,0 +1,87 @@
+package com.example.hw;
+
+import java.util.Arrays;
+
+/**
+ * A growable binary min-heap of primitive longs. The graph algorithms pack a priority
+ * and an index into one long, e.g. ((long) weight << 32) | entry, so ties on the
+ * priority are broken by the smaller index and nothing is boxed.
+ */
+class PackedMinHeap {
+    private long[] heap;
+    private int size;
+
+    /**
+     * Creates an empty heap.
+     * @param capacity The initial capacity; the heap grows as needed.
+     */
+    PackedMinHeap(int capacity) {
+        this.heap = new long[Math.max(capacity, 1)];
+    }
+
+    /**
+     * Packs a priority and a non-negative index so that longs order by priority, then index.
+     * @param priority The priority; may be negative.
+     * @param index The index, at least 0.
+     * @return The packed value.
+     */
+    static long pack(int priority, int index) {
+        return ((long) priority << 32) | index;
+    }
+
+    static int priority(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    static int index(long packed) {
+        return (int) packed;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void add(long value) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= value) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = value;
+    }
+
+    /**
+     * Removes and returns the smallest value. The heap must not be empty.
+     * @return The smallest value.
+     */
+    long poll() {
+        long min = heap[0];
+        long last = heap[--size];
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (heap[child] >= last) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = last;
+        return min;
+    }
+}
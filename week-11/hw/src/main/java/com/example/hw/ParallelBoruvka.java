@@ -0,0 +1,167 @@
+package com.example.hw;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The fork/join passes behind Main.minimumSpanningForestBoruvka. Edges are flat arrays
+ * with a packed (weight, edge index) key each; since the keys are distinct, every
+ * component has exactly one cheapest outgoing edge, and the edges chosen in a round
+ * always form a forest.
+ */
+final class ParallelBoruvka {
+    /** Edges or labels handled by one leaf task. */
+    private static final int CHUNK = 1 << 14;
+    /** Marks a component with no outgoing edge found yet. */
+    private static final long NONE = Long.MAX_VALUE;
+
+    private ParallelBoruvka() {
+    }
+
+    /**
+     * Finds the minimum spanning forest of an edge list.
+     * @param labelBound One more than the largest vertex label.
+     * @param from First endpoint of each edge; overwritten with -1 for edges found inside
+     *             a component, so later rounds skip them.
+     * @param to Second endpoint of each edge.
+     * @param keys PackedMinHeap.pack(weight, edge index) of each edge.
+     * @return The keys of the forest's edges, in no particular order.
+     */
+    static long[] minimumSpanningForest(int labelBound, int[] from, int[] to, long[] keys) {
+        ConcurrentUnionFind components = new ConcurrentUnionFind(labelBound);
+        AtomicLongArray cheapest = new AtomicLongArray(labelBound);
+        for (int v = 0; v < labelBound; v++) {
+            cheapest.set(v, NONE);
+        }
+        boolean[] inTree = new boolean[keys.length];
+
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int treeEdges = 0;
+        int merged;
+        do {
+            pool.invoke(new FindCheapest(from, to, keys, components, cheapest, 0, keys.length));
+            merged = pool.invoke(new Contract(from, to, components, cheapest, inTree, 0, labelBound));
+            treeEdges += merged;
+        } while (merged > 0);
+
+        long[] treeKeys = new long[treeEdges];
+        int next = 0;
+        for (int i = 0; i < inTree.length; i++) {
+            if (inTree[i]) {
+                treeKeys[next++] = keys[i];
+            }
+        }
+        return treeKeys;
+    }
+
+    /**
+     * Offers every edge between two components as the cheapest outgoing edge of both,
+     * keeping the smallest key per component root.
+     */
+    private static final class FindCheapest extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] from;
+        private final int[] to;
+        private final long[] keys;
+        private final ConcurrentUnionFind components;
+        private final AtomicLongArray cheapest;
+        private final int lo;
+        private final int hi;
+
+        FindCheapest(int[] from, int[] to, long[] keys, ConcurrentUnionFind components,
+                     AtomicLongArray cheapest, int lo, int hi) {
+            this.from = from;
+            this.to = to;
+            this.keys = keys;
+            this.components = components;
+            this.cheapest = cheapest;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo > CHUNK) {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new FindCheapest(from, to, keys, components, cheapest, lo, mid),
+                        new FindCheapest(from, to, keys, components, cheapest, mid, hi));
+                return;
+            }
+            for (int i = lo; i < hi; i++) {
+                if (from[i] < 0) {
+                    continue;
+                }
+                int rootFrom = components.find(from[i]);
+                int rootTo = components.find(to[i]);
+                if (rootFrom == rootTo) {
+                    from[i] = -1; // Stays inside one component from now on
+                    continue;
+                }
+                offer(rootFrom, keys[i]);
+                offer(rootTo, keys[i]);
+            }
+        }
+
+        private void offer(int root, long key) {
+            long current = cheapest.get(root);
+            while (key < current && !cheapest.compareAndSet(root, current, key)) {
+                current = cheapest.get(root);
+            }
+        }
+    }
+
+    /**
+     * Merges every component along its cheapest outgoing edge and resets the entries.
+     * Two components often pick the same edge; only the union that succeeds adds it.
+     */
+    private static final class Contract extends RecursiveTask<Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] from;
+        private final int[] to;
+        private final ConcurrentUnionFind components;
+        private final AtomicLongArray cheapest;
+        private final boolean[] inTree;
+        private final int lo;
+        private final int hi;
+
+        Contract(int[] from, int[] to, ConcurrentUnionFind components, AtomicLongArray cheapest,
+                 boolean[] inTree, int lo, int hi) {
+            this.from = from;
+            this.to = to;
+            this.components = components;
+            this.cheapest = cheapest;
+            this.inTree = inTree;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (hi - lo > CHUNK) {
+                int mid = (lo + hi) >>> 1;
+                Contract left = new Contract(from, to, components, cheapest, inTree, lo, mid);
+                left.fork();
+                int right = new Contract(from, to, components, cheapest, inTree, mid, hi).compute();
+                return left.join() + right;
+            }
+            int merged = 0;
+            for (int root = lo; root < hi; root++) {
+                long key = cheapest.get(root);
+                if (key == NONE) {
+                    continue;
+                }
+                cheapest.set(root, NONE);
+                int i = PackedMinHeap.index(key);
+                if (components.union(from[i], to[i])) {
+                    inTree[i] = true;
+                    merged++;
+                }
+            }
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.hw;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+
+/**
+ * The parallel passes behind Main.calculateConnectedComponentsParallel. Edges are joined
+ * in a ConcurrentUnionFind by fork/join tasks over ranges of adjacency entries, so a
+ * vertex of very high degree is split across tasks like any other run of entries.
+ * Because the union-find links roots under smaller labels, every component's root is
+ * its smallest vertex, and numbering the roots in ascending order gives the same
+ * component numbers as the sequential BFS, which starts a new component at each
+ * unvisited vertex in ascending order.
+ */
+final class ParallelComponents {
+    /** Adjacency entries handled by one leaf task. */
+    private static final int CHUNK = 1 << 15;
+
+    private ParallelComponents() {
+    }
+
+    /**
+     * Computes the component map of a CSR snapshot.
+     * @param g The graph snapshot.
+     * @return compMap[v] is v's component number, from 1; 0 for labels that are not vertices.
+     */
+    static int[] componentMap(CsrGraph g) {
+        ConcurrentUnionFind components = new ConcurrentUnionFind(g.labelBound());
+        ForkJoinPool.commonPool().invoke(new UnionEdges(g, components, 0, g.targets.length));
+
+        // Unions are done, so find no longer changes anything and the passes can share it
+        int[] vertices = g.vertices;
+        int[] roots = new int[vertices.length];
+        int[] numbers = new int[vertices.length];
+        IntStream.range(0, vertices.length).parallel().forEach(k -> {
+            roots[k] = components.find(vertices[k]);
+            numbers[k] = roots[k] == vertices[k] ? 1 : 0;
+        });
+        // numbers[k] becomes the count of roots up to vertices[k]: its number if it is one
+        Arrays.parallelPrefix(numbers, Integer::sum);
+
+        int[] compMap = new int[g.labelBound()];
+        IntStream.range(0, vertices.length).parallel()
+                .filter(k -> roots[k] == vertices[k])
+                .forEach(k -> compMap[vertices[k]] = numbers[k]);
+        IntStream.range(0, vertices.length).parallel()
+                .filter(k -> roots[k] != vertices[k])
+                .forEach(k -> compMap[vertices[k]] = compMap[roots[k]]);
+        return compMap;
+    }
+
+    /**
+     * Unions the ends of every adjacency entry in [lo, hi). Each undirected edge is
+     * stored in both directions, so only the direction from the smaller label is used.
+     */
+    private static final class UnionEdges extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final CsrGraph g;
+        private final ConcurrentUnionFind components;
+        private final int lo;
+        private final int hi;
+
+        UnionEdges(CsrGraph g, ConcurrentUnionFind components, int lo, int hi) {
+            this.g = g;
+            this.components = components;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo > CHUNK) {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new UnionEdges(g, components, lo, mid),
+                        new UnionEdges(g, components, mid, hi));
+                return;
+            }
+            if (lo == hi) {
+                return;
+            }
+            int[] offsets = g.offsets;
+            int[] targets = g.targets;
+            // One search for the first entry's vertex, then walk the offsets alongside
+            int v = g.sourceOf(lo);
+            for (int i = lo; i < hi; i++) {
+                while (offsets[v + 1] <= i) {
+                    v++;
+                }
+                if (v < targets[i]) {
+                    components.union(v, targets[i]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.hw;
+
+import java.util.Random;
+
+/**
+ * Runs random point-to-point queries on a grid graph, which behaves like a road
+ * network, with Dijkstra's search stopped at the target (Main.shortestPath),
+ * bidirectional Dijkstra (Main.shortestPathBidirectional) and ALT (AltIndex), and
+ * reports the average number of settled vertices and time per query. Fails if the
+ * methods disagree on a distance.
+ * Usage: java PointToPointBenchmark [side] [queries] [landmarks]
+ */
+public class PointToPointBenchmark {
+
+    /**
+     * Runs the benchmark.
+     * @param args Optional grid side length (default 1,000, so 1M vertices), number of
+     *             queries (default 200) and number of landmarks (default 8).
+     */
+    public static void main(String[] args) {
+        int side = args.length > 0 ? Integer.parseInt(args[0]) : 1_000;
+        int queries = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int landmarkCount = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+
+        Random rand = new Random(42);
+        GraphBuilder builder = new GraphBuilder();
+        for (int row = 0; row < side; row++) {
+            for (int col = 0; col < side; col++) {
+                int v = row * side + col;
+                if (col + 1 < side) {
+                    builder.addEdge(v, v + 1, 1 + rand.nextInt(100));
+                }
+                if (row + 1 < side) {
+                    builder.addEdge(v, v + side, 1 + rand.nextInt(100));
+                }
+            }
+        }
+        CsrGraph g = builder.buildCsr();
+
+        long start = System.nanoTime();
+        AltIndex alt = new AltIndex(g, landmarkCount);
+        System.out.printf("%d x %d grid, %d queries, %d landmarks preprocessed in %.1f ms%n",
+                side, side, queries, landmarkCount, (System.nanoTime() - start) / 1e6);
+        System.out.printf("%-16s %14s %12s%n", "Query", "avg settled", "avg ms");
+
+        int[] sources = new int[queries];
+        int[] targets = new int[queries];
+        for (int q = 0; q < queries; q++) {
+            sources[q] = rand.nextInt(g.vertexCount());
+            targets[q] = rand.nextInt(g.vertexCount());
+        }
+        int[] expected = new int[queries];
+        for (String name : new String[] { "Dijkstra", "Bidirectional", "ALT" }) {
+            long settled = 0;
+            long time = 0;
+            for (int q = 0; q < queries; q++) {
+                start = System.nanoTime();
+                ShortestPathResult result;
+                switch (name) {
+                    case "Dijkstra":
+                        result = Main.shortestPath(g, sources[q], targets[q]);
+                        expected[q] = result.getDistance(targets[q]);
+                        break;
+                    case "Bidirectional":
+                        result = Main.shortestPathBidirectional(g, sources[q], targets[q]);
+                        break;
+                    default:
+                        result = alt.shortestPath(sources[q], targets[q]);
+                        break;
+                }
+                time += System.nanoTime() - start;
+                settled += result.getSettledCount();
+                if (result.getDistance(targets[q]) != expected[q]) {
+                    throw new IllegalStateException(name + " found distance " + result.getDistance(targets[q])
+                            + " instead of " + expected[q] + " from " + sources[q] + " to " + targets[q]);
+                }
+            }
+            System.out.printf("%-16s %14d %12.2f%n", name, settled / queries, time / 1e6 / queries);
+        }
+    }
+}
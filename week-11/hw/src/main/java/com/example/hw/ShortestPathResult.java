@@ -0,0 +1,101 @@
+package com.example.hw;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The outcome of a single-source shortest path search: the distance and previous
+ * vertex of every vertex label, and how many vertices the search settled. When the
+ * search stopped early at a target, only settled vertices have final distances;
+ * the others hold tentative values (or Integer.MAX_VALUE if never reached).
+ */
+public class ShortestPathResult {
+    /** Target value that makes a search settle every reachable vertex. */
+    public static final int NO_TARGET = -1;
+
+    private final int source;
+    private final int target;
+    private final int[] dist;
+    private final int[] previous;
+    private final boolean[] settled;
+    private final int settledCount;
+
+    /**
+     * Wraps the arrays produced by a search; they are not copied.
+     * @param source The starting vertex.
+     * @param target The vertex the search stopped at, or NO_TARGET.
+     * @param dist Distance per vertex label, Integer.MAX_VALUE if unreached.
+     * @param previous Previous vertex on the path per label, -1 if none.
+     * @param settled Whether each label's distance is final.
+     * @param settledCount The number of settled vertices.
+     */
+    ShortestPathResult(int source, int target, int[] dist, int[] previous, boolean[] settled, int settledCount) {
+        this.source = source;
+        this.target = target;
+        this.dist = dist;
+        this.previous = previous;
+        this.settled = settled;
+        this.settledCount = settledCount;
+    }
+
+    public int getSource() {
+        return source;
+    }
+
+    public int getTarget() {
+        return target;
+    }
+
+    /**
+     * @param v A vertex label.
+     * @return The distance from the source, or Integer.MAX_VALUE if v was not reached.
+     */
+    public int getDistance(int v) {
+        return inRange(v) ? dist[v] : Integer.MAX_VALUE;
+    }
+
+    /**
+     * @param v A vertex label.
+     * @return The vertex before v on its shortest path, or -1 for the source and unreached vertices.
+     */
+    public int getPrevious(int v) {
+        return inRange(v) ? previous[v] : -1;
+    }
+
+    /**
+     * @param v A vertex label.
+     * @return true if v's distance is final.
+     */
+    public boolean isSettled(int v) {
+        return inRange(v) && settled[v];
+    }
+
+    /**
+     * @return How many vertices the search settled; a measure of the work it did.
+     */
+    public int getSettledCount() {
+        return settledCount;
+    }
+
+    /**
+     * Follows the previous vertices back from v.
+     * @param v A vertex label.
+     * @return The vertices from the source to v, or an empty list if v was not reached.
+     */
+    public List<Integer> pathTo(int v) {
+        List<Integer> path = new ArrayList<>();
+        if (getDistance(v) == Integer.MAX_VALUE) {
+            return path;
+        }
+        for (int curr = v; curr != -1; curr = previous[curr]) {
+            path.add(curr);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private boolean inRange(int v) {
+        return v >= 0 && v < dist.length;
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.hw;
+
+import java.util.Arrays;
+
+/**
+ * A disjoint-set forest over the vertex labels 0 .. labelBound - 1, with path
+ * compression and union by rank, so any sequence of operations runs in nearly
+ * constant amortized time per operation.
+ */
+public class UnionFind {
+    private int[] parent;
+    private byte[] rank;  // an upper bound on each root's tree height; stays below 32
+    private int setCount;
+
+    /**
+     * Creates a forest in which every label is its own set.
+     * @param labelBound One more than the largest label.
+     */
+    public UnionFind(int labelBound) {
+        this.parent = new int[labelBound];
+        this.rank = new byte[labelBound];
+        for (int v = 0; v < labelBound; v++) {
+            parent[v] = v;
+        }
+        this.setCount = labelBound;
+    }
+
+    /**
+     * @return The number of labels covered, one more than the largest.
+     */
+    public int labelBound() {
+        return parent.length;
+    }
+
+    /**
+     * Covers more labels, each new one as its own set.
+     * @param labelBound The new label bound; a smaller one than now is ignored.
+     */
+    public void grow(int labelBound) {
+        int old = parent.length;
+        if (labelBound <= old) {
+            return;
+        }
+        parent = Arrays.copyOf(parent, labelBound);
+        rank = Arrays.copyOf(rank, labelBound);
+        for (int v = old; v < labelBound; v++) {
+            parent[v] = v;
+        }
+        setCount += labelBound - old;
+    }
+
+    /**
+     * @param v A label.
+     * @return The representative of v's set.
+     */
+    public int find(int v) {
+        int root = v;
+        while (parent[root] != root) {
+            root = parent[root];
+        }
+        // Point every vertex on the path straight at the root
+        while (parent[v] != root) {
+            int next = parent[v];
+            parent[v] = root;
+            v = next;
+        }
+        return root;
+    }
+
+    /**
+     * Merges the sets of a and b, hanging the lower-ranked root under the other.
+     * @param a A label.
+     * @param b A label.
+     * @return true if a and b were in different sets.
+     */
+    public boolean union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) {
+            return false;
+        }
+        if (rank[rootA] < rank[rootB]) {
+            parent[rootA] = rootB;
+        } else if (rank[rootA] > rank[rootB]) {
+            parent[rootB] = rootA;
+        } else {
+            parent[rootB] = rootA;
+            rank[rootA]++;
+        }
+        setCount--;
+        return true;
+    }
+
+    /**
+     * @return true if a and b are in the same set.
+     */
+    public boolean connected(int a, int b) {
+        return find(a) == find(b);
+    }
+
+    /**
+     * @return The number of sets, counting every label, including ones that are not vertices.
+     */
+    public int setCount() {
+        return setCount;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.hw;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the parallel Borůvka forest against Kruskal's, and ConcurrentUnionFind under
+ * concurrent unions against the sequential UnionFind.
+ */
+public class BoruvkaTest {
+
+    @Test
+    public void forestMatchesKruskal() {
+        Random rand = new Random(1);
+        for (int trial = 0; trial < 200; trial++) {
+            // Few distinct weights, so the (weight, edge index) order decides most edges
+            MyGraph g = RandomGraphs.generate(rand, 1 + rand.nextInt(60), rand.nextInt(150), -2, 1 + rand.nextInt(4));
+            RandomGraphs.assertSameGraph(Main.minimumSpanningForestKruskal(g), Main.minimumSpanningForestBoruvka(g));
+            assertEquals(RandomGraphs.totalWeight(Main.minimumSpanningForest(g)),
+                    RandomGraphs.totalWeight(Main.minimumSpanningForestBoruvka(g)));
+        }
+    }
+
+    @Test
+    public void largeForestMatchesKruskal() {
+        // Enough edges that the fork/join passes split into several tasks
+        MyGraph g = RandomGraphs.generate(new Random(2), 30_000, 60_000, 1, 1_000);
+        RandomGraphs.assertSameGraph(Main.minimumSpanningForestKruskal(g), Main.minimumSpanningForestBoruvka(g));
+    }
+
+    @Test
+    public void concurrentUnionsMatchSequential() {
+        Random rand = new Random(3);
+        int labelBound = 20_000;
+        int[][] pairs = new int[30_000][];
+        for (int i = 0; i < pairs.length; i++) {
+            int a = rand.nextInt(labelBound);
+            pairs[i] = new int[] {a, Math.min(labelBound - 1, a + rand.nextInt(50))};
+        }
+        UnionFind expected = new UnionFind(labelBound);
+        for (int[] pair : pairs) {
+            expected.union(pair[0], pair[1]);
+        }
+
+        ConcurrentUnionFind actual = new ConcurrentUnionFind(labelBound);
+        AtomicInteger merges = new AtomicInteger();
+        IntStream.range(0, pairs.length).parallel().forEach(i -> {
+            if (actual.union(pairs[i][0], pairs[i][1])) {
+                merges.incrementAndGet();
+            }
+        });
+        // Each successful union removes exactly one set, whatever the interleaving
+        assertEquals(labelBound - expected.setCount(), merges.get());
+        // Roots link under smaller labels, so every set's root is its smallest label
+        int[] smallest = new int[labelBound];
+        for (int v = labelBound - 1; v >= 0; v--) {
+            smallest[expected.find(v)] = v;
+        }
+        for (int v = 0; v < labelBound; v++) {
+            assertEquals(smallest[expected.find(v)], actual.find(v));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.hw;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that CSR snapshots hold the same graph as MyGraph and give the same results.
+ */
+public class CsrGraphTest {
+
+    @Test
+    public void freezeKeepsAdjacencyOrder() {
+        Random rand = new Random(1);
+        for (int trial = 0; trial < 50; trial++) {
+            MyGraph g = RandomGraphs.generate(rand, rand.nextInt(40), rand.nextInt(80), 0, 9);
+            CsrGraph csr = g.freeze();
+            RandomGraphs.assertSameGraph(g, csr);
+            for (int v = 0; v < csr.labelBound(); v++) {
+                assertEquals(g.getAdjList(v) != null, csr.hasVertex(v));
+            }
+        }
+    }
+
+    @Test
+    public void snapshotIgnoresLaterChanges() {
+        MyGraph g = new MyGraph();
+        g.addVertex(1);
+        g.addVertex(3);
+        g.addEdge(1, 3, 5);
+        CsrGraph csr = g.freeze();
+        g.addVertex(7);
+        g.addEdge(3, 7, 1);
+        assertEquals(2, csr.vertexCount());
+        assertEquals(1, csr.edgeCount());
+        assertEquals(4, csr.labelBound());
+        assertFalse(csr.hasVertex(7));
+        assertArrayEquals(new int[] {1, 3}, csr.getVertices());
+        assertTrue(csr.hasVertex(3));
+        assertEquals(1, csr.degree(3));
+    }
+
+    @Test
+    public void algorithmsMatchMyGraph() {
+        Random rand = new Random(2);
+        for (int trial = 0; trial < 50; trial++) {
+            MyGraph g = RandomGraphs.generate(rand, 1 + rand.nextInt(40), rand.nextInt(80), 0, 9);
+            CsrGraph csr = g.freeze();
+            assertArrayEquals(Main.calculateConnectedComponents(g), Main.calculateConnectedComponents(csr));
+
+            // Prim's algorithm on either form builds the same forest, edge for edge
+            RandomGraphs.assertSameGraph(Main.minimumSpanningForest(g), Main.minimumSpanningForest(csr));
+            int start = g.getVertices().get(rand.nextInt(g.getVertices().size()));
+            RandomGraphs.assertSameGraph(Main.minimumSpanningTree(g, start), Main.minimumSpanningTree(csr, start));
+
+            ShortestPathResult expected = Main.shortestPath(g, start, ShortestPathResult.NO_TARGET);
+            ShortestPathResult actual = Main.shortestPath(csr, start, ShortestPathResult.NO_TARGET);
+            assertEquals(expected.getSettledCount(), actual.getSettledCount());
+            for (int v = 0; v < csr.labelBound(); v++) {
+                assertEquals(expected.getDistance(v), actual.getDistance(v));
+                assertEquals(expected.getPrevious(v), actual.getPrevious(v));
+            }
+        }
+    }
+}
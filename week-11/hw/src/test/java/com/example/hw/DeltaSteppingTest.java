@@ -0,0 +1,58 @@
+package com.example.hw;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks delta-stepping distances and previous vertices against Dijkstra's.
+ */
+public class DeltaSteppingTest {
+
+    private static void assertSameResult(ShortestPathResult expected, ShortestPathResult actual, int labelBound) {
+        assertEquals(expected.getSettledCount(), actual.getSettledCount());
+        for (int v = 0; v < labelBound; v++) {
+            assertEquals(expected.getDistance(v), actual.getDistance(v), "distance of " + v);
+            assertEquals(expected.getPrevious(v), actual.getPrevious(v), "previous of " + v);
+            assertEquals(expected.isSettled(v), actual.isSettled(v), "settled " + v);
+        }
+    }
+
+    @Test
+    public void smallGraphsMatchDijkstra() {
+        Random rand = new Random(1);
+        for (int trial = 0; trial < 200; trial++) {
+            // Small weight ranges give many equal distances for previousOf to break
+            CsrGraph g = RandomGraphs.generate(rand, 1 + rand.nextInt(50), rand.nextInt(150), 1,
+                    1 + rand.nextInt(rand.nextBoolean() ? 3 : 100)).freeze();
+            int source = g.vertices[rand.nextInt(g.vertexCount())];
+            ShortestPathResult expected = Main.shortestPath(g, source, ShortestPathResult.NO_TARGET);
+            for (int delta : new int[] {1, 2, DeltaStepping.defaultDelta(g), 1_000}) {
+                assertSameResult(expected, DeltaStepping.shortestPaths(g, source, delta), g.labelBound());
+            }
+        }
+    }
+
+    @Test
+    public void largeGraphMatchesDijkstra() {
+        // Above the size where shortestPathParallel stops falling back to Dijkstra
+        CsrGraph g = RandomGraphs.generate(new Random(2), 60_000, 150_000, 1, 50).freeze();
+        int source = g.vertices[0];
+        ShortestPathResult expected = Main.shortestPath(g, source, ShortestPathResult.NO_TARGET);
+        assertSameResult(expected, Main.shortestPathParallel(g, source), g.labelBound());
+        assertSameResult(expected, Main.shortestPathParallel(g, source, 7), g.labelBound());
+    }
+
+    @Test
+    public void zeroWeightsFallBackToDijkstra() {
+        CsrGraph g = RandomGraphs.generate(new Random(3), 60_000, 150_000, 0, 3).freeze();
+        int source = g.vertices[0];
+        assertSameResult(Main.shortestPath(g, source, ShortestPathResult.NO_TARGET),
+                Main.shortestPathParallel(g, source), g.labelBound());
+        assertThrows(IllegalArgumentException.class, () -> Main.shortestPathParallel(g, source, 0));
+        assertThrows(IllegalArgumentException.class, () -> Main.shortestPathParallel(g, -1, 1));
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.hw;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the heap-based Dijkstra against the O(V²) list scan it replaced.
+ */
+public class DijkstraTest {
+
+    /**
+     * The original search: repeatedly settle the unvisited vertex with the smallest
+     * distance, the smallest vertex on ties. Returns {dist, previous, {settledCount}}.
+     */
+    private static int[][] listScanDijkstra(MyGraph g, int source) {
+        List<Integer> vertices = g.getVertices();
+        int labelBound = vertices.get(vertices.size() - 1) + 1;
+        int[] dist = new int[labelBound];
+        int[] previous = new int[labelBound];
+        boolean[] settled = new boolean[labelBound];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        Arrays.fill(previous, -1);
+        dist[source] = 0;
+        int settledCount = 0;
+        while (true) {
+            int currV = -1;
+            for (int v : vertices) {
+                if (!settled[v] && dist[v] != Integer.MAX_VALUE && (currV < 0 || dist[v] < dist[currV])) {
+                    currV = v;
+                }
+            }
+            if (currV < 0) {
+                break;
+            }
+            settled[currV] = true;
+            settledCount++;
+            for (Edge e : g.getAdjList(currV)) {
+                int neighbor = (e.v1 == currV) ? e.v2 : e.v1;
+                if (!settled[neighbor] && dist[currV] + e.weight < dist[neighbor]) {
+                    dist[neighbor] = dist[currV] + e.weight;
+                    previous[neighbor] = currV;
+                }
+            }
+        }
+        return new int[][] {dist, previous, {settledCount}};
+    }
+
+    @Test
+    public void matchesListScan() {
+        Random rand = new Random(1);
+        for (int trial = 0; trial < 200; trial++) {
+            // Small weight ranges, zero included, make many ties
+            MyGraph g = RandomGraphs.generate(rand, 1 + rand.nextInt(40), rand.nextInt(100), 0, 1 + rand.nextInt(5));
+            List<Integer> vertices = g.getVertices();
+            int source = vertices.get(rand.nextInt(vertices.size()));
+            int[][] expected = listScanDijkstra(g, source);
+            ShortestPathResult actual = Main.shortestPath(g, source, ShortestPathResult.NO_TARGET);
+            assertEquals(expected[2][0], actual.getSettledCount());
+            for (int v = 0; v < expected[0].length; v++) {
+                assertEquals(expected[0][v], actual.getDistance(v), "distance of " + v);
+                assertEquals(expected[1][v], actual.getPrevious(v), "previous of " + v);
+            }
+        }
+    }
+
+    @Test
+    public void earlyExitSettlesTargetWithFinalDistance() {
+        Random rand = new Random(2);
+        for (int trial = 0; trial < 200; trial++) {
+            MyGraph g = RandomGraphs.generate(rand, 1 + rand.nextInt(40), rand.nextInt(100), 1, 20);
+            List<Integer> vertices = g.getVertices();
+            int source = vertices.get(rand.nextInt(vertices.size()));
+            int target = vertices.get(rand.nextInt(vertices.size()));
+            ShortestPathResult full = Main.shortestPath(g, source, ShortestPathResult.NO_TARGET);
+            ShortestPathResult early = Main.shortestPath(g, source, target);
+            assertEquals(full.getDistance(target), early.getDistance(target));
+            assertEquals(full.pathTo(target), early.pathTo(target));
+            assertTrue(early.getSettledCount() <= full.getSettledCount());
+            for (int v : vertices) {
+                if (early.isSettled(v)) {
+                    assertEquals(full.getDistance(v), early.getDistance(v));
+                }
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> Main.shortestPath(new MyGraph(), 0, 0));
+    }
+
+    @Test
+    public void indexedHeapPollsInKeyThenVertexOrder() {
+        Random rand = new Random(3);
+        int labelBound = 500;
+        IndexedMinHeap heap = new IndexedMinHeap(labelBound);
+        int[] keys = new int[labelBound];
+        // (key, vertex) pairs packed so that the set orders them like the heap should
+        TreeSet<Long> reference = new TreeSet<>();
+        for (int step = 0; step < 20_000; step++) {
+            int v = rand.nextInt(labelBound);
+            if (rand.nextInt(3) > 0) {
+                int k = rand.nextInt(50);
+                if (!heap.contains(v)) {
+                    heap.addOrDecrease(v, k);
+                    keys[v] = k;
+                    reference.add(PackedMinHeap.pack(k, v));
+                } else {
+                    heap.addOrDecrease(v, k);
+                    if (k < keys[v]) {
+                        reference.remove(PackedMinHeap.pack(keys[v], v));
+                        keys[v] = k;
+                        reference.add(PackedMinHeap.pack(k, v));
+                    }
+                    assertEquals(keys[v], heap.keyOf(v));
+                }
+            } else if (!reference.isEmpty()) {
+                long min = reference.pollFirst();
+                assertEquals(PackedMinHeap.index(min), heap.peekMin());
+                assertEquals(PackedMinHeap.index(min), heap.pollMin());
+            }
+            assertEquals(reference.isEmpty(), heap.isEmpty());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.hw;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Checks that GraphBuilder builds the same graph as adding the vertices and edges to an
+ * empty MyGraph one at a time.
+ */
+public class GraphBuilderTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void buildMatchesIncrementalGraph() {
+        Random rand = new Random(1);
+        for (int trial = 0; trial < 50; trial++) {
+            int[] labels = RandomGraphs.labels(rand, 1 + rand.nextInt(40));
+            List<Edge> edges = new ArrayList<>();
+            for (int e = rand.nextInt(80); e > 0; e--) {
+                edges.add(new Edge(labels[rand.nextInt(labels.length)], labels[rand.nextInt(labels.length)],
+                        rand.nextInt(10)));
+            }
+            // Some vertices come only from edges, some are added twice
+            int explicit = rand.nextInt(labels.length + 1);
+
+            MyGraph expected = new MyGraph();
+            GraphBuilder builder = new GraphBuilder();
+            for (int k = 0; k < explicit; k++) {
+                expected.addVertex(labels[k]);
+                builder.addVertex(labels[k]);
+            }
+            builder.addVertices(IntStream.of(labels).limit(explicit / 2));
+            for (Edge e : edges) {
+                expected.addVertex(e.v1);
+                expected.addVertex(e.v2);
+                expected.addEdge(e.v1, e.v2, e.weight);
+            }
+            builder.addEdges(edges.stream());
+
+            RandomGraphs.assertSameGraph(expected, builder.build());
+            RandomGraphs.assertSameGraph(expected, builder.buildCsr());
+        }
+    }
+
+    @Test
+    public void emptyBuilderBuildsEmptyGraph() {
+        GraphBuilder builder = new GraphBuilder();
+        assertEquals(0, builder.build().getVertices().size());
+        assertEquals(0, builder.buildCsr().vertexCount());
+    }
+
+    @Test
+    public void loadEdgeListMatchesAddEdge() throws IOException {
+        Path file = dir.resolve("graph.txt");
+        Files.write(file, List.of(
+                "# a comment line",
+                "0 1 4",
+                "1,2,\t-3  # trailing comment",
+                "",
+                "9",
+                "2 2 7",
+                "0 1 2"));
+        MyGraph expected = new MyGraph();
+        for (int v : new int[] {0, 1, 2, 9}) {
+            expected.addVertex(v);
+        }
+        expected.addEdge(0, 1, 4);
+        expected.addEdge(1, 2, -3);
+        expected.addEdge(2, 2, 7);
+        expected.addEdge(0, 1, 2);
+
+        RandomGraphs.assertSameGraph(expected, new GraphBuilder().loadEdgeList(file).build());
+    }
+
+    @Test
+    public void malformedInputIsRejected() throws IOException {
+        for (String line : new String[] {"1 2", "1 2 3 4", "1 x 3", "1 2 3x", "99999999999 1 1", "-1 2 3"}) {
+            Path file = dir.resolve("bad.txt");
+            Files.write(file, List.of("0 1 1", line));
+            assertThrows(IllegalArgumentException.class, () -> new GraphBuilder().loadEdgeList(file), line);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new GraphBuilder().addVertex(-1));
+        assertThrows(IllegalArgumentException.class, () -> new GraphBuilder().addEdge(0, -2, 1));
+    }
+}
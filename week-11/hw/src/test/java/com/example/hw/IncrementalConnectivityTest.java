@@ -0,0 +1,79 @@
+package com.example.hw;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the connectivity that MyGraph keeps up to date on addVertex and addEdge
+ * against a fresh BFS after every change.
+ */
+public class IncrementalConnectivityTest {
+
+    private static void assertMatchesBfs(MyGraph g) {
+        int[] expected = Main.calculateConnectedComponents(g);
+        assertArrayEquals(expected, g.componentMap());
+
+        int components = 0;
+        // smallest[c] is the first vertex of component c in ascending order
+        int[] smallest = new int[g.getVertices().size() + 1];
+        for (int v : g.getVertices()) {
+            if (expected[v] > components) {
+                components = expected[v];
+                smallest[components] = v;
+            }
+        }
+        assertEquals(components, g.componentCount());
+        List<Integer> vertices = g.getVertices();
+        for (int v : vertices) {
+            assertEquals(smallest[expected[v]], g.componentOf(v));
+        }
+        int u = vertices.get(0);
+        for (int v : vertices) {
+            assertEquals(expected[u] == expected[v], g.connected(u, v));
+        }
+    }
+
+    @Test
+    public void interleavedChangesMatchBfs() {
+        Random rand = new Random(1);
+        for (int trial = 0; trial < 20; trial++) {
+            // Start from a random graph; the first query builds the union-find from it
+            MyGraph g = RandomGraphs.generate(rand, 1 + rand.nextInt(20), rand.nextInt(20), 1, 9);
+            List<Integer> vertices = new ArrayList<>(g.getVertices());
+            assertMatchesBfs(g);
+            for (int step = 0; step < 200; step++) {
+                if (rand.nextInt(4) == 0) {
+                    // Labels past the current bound make the union-find grow
+                    int v = rand.nextInt(4 * vertices.size() + 10);
+                    if (g.getAdjList(v) == null) {
+                        vertices.add(v);
+                    }
+                    g.addVertex(v);
+                } else {
+                    int a = vertices.get(rand.nextInt(vertices.size()));
+                    int b = vertices.get(rand.nextInt(vertices.size()));
+                    g.addEdge(a, b, 1 + rand.nextInt(9));
+                }
+                assertMatchesBfs(g);
+            }
+        }
+    }
+
+    @Test
+    public void unknownVerticesAreRejected() {
+        MyGraph g = new MyGraph();
+        g.addVertex(2);
+        assertThrows(IllegalArgumentException.class, () -> g.connected(2, 3));
+        assertThrows(IllegalArgumentException.class, () -> g.componentOf(0));
+        assertEquals(1, g.componentCount());
+        assertArrayEquals(new int[] {0, 0, 1}, g.componentMap());
+        assertArrayEquals(new int[0], new MyGraph().componentMap());
+    }
+}
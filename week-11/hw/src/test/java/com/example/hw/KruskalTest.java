@@ -0,0 +1,65 @@
+package com.example.hw;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks Kruskal's algorithm against Prim's, and UnionFind against a plain label array.
+ */
+public class KruskalTest {
+
+    @Test
+    public void forestWeightMatchesPrim() {
+        Random rand = new Random(1);
+        for (int trial = 0; trial < 200; trial++) {
+            MyGraph g = RandomGraphs.generate(rand, 1 + rand.nextInt(60), rand.nextInt(150), -5, 1 + rand.nextInt(30));
+            MyGraph prim = Main.minimumSpanningForest(g);
+            MyGraph kruskal = Main.minimumSpanningForestKruskal(g);
+            assertEquals(RandomGraphs.totalWeight(prim), RandomGraphs.totalWeight(kruskal));
+            assertEquals(RandomGraphs.totalEdges(prim), RandomGraphs.totalEdges(kruskal));
+            assertArrayEquals(Main.calculateConnectedComponents(g), Main.calculateConnectedComponents(kruskal));
+        }
+    }
+
+    @Test
+    public void unionFindMatchesLabelArray() {
+        Random rand = new Random(2);
+        UnionFind uf = new UnionFind(10);
+        // label[v] names v's set; merging relabels one whole set
+        int[] label = new int[1_000];
+        for (int v = 0; v < label.length; v++) {
+            label[v] = v;
+        }
+        int bound = 10;
+        int sets = 10;
+        for (int step = 0; step < 5_000; step++) {
+            if (bound < label.length && rand.nextInt(50) == 0) {
+                int grown = Math.min(label.length, bound + 1 + rand.nextInt(100));
+                uf.grow(grown);
+                uf.grow(bound); // Shrinking is ignored
+                sets += grown - bound;
+                bound = grown;
+                assertEquals(bound, uf.labelBound());
+            }
+            int a = rand.nextInt(bound);
+            int b = rand.nextInt(bound);
+            assertEquals(label[a] == label[b], uf.connected(a, b));
+            boolean merged = label[a] != label[b];
+            assertEquals(merged, uf.union(a, b));
+            if (merged) {
+                int from = label[b];
+                for (int v = 0; v < bound; v++) {
+                    if (label[v] == from) {
+                        label[v] = label[a];
+                    }
+                }
+                sets--;
+            }
+            assertEquals(sets, uf.setCount());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.hw;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the parallel union-find component numbering against the sequential BFS.
+ */
+public class ParallelComponentsTest {
+
+    @Test
+    public void smallGraphsMatchBfs() {
+        Random rand = new Random(1);
+        for (int trial = 0; trial < 300; trial++) {
+            MyGraph g = RandomGraphs.generate(rand, rand.nextInt(60), rand.nextInt(100), 1, 9);
+            int[] expected = Main.calculateConnectedComponents(g);
+            assertArrayEquals(expected, Main.calculateConnectedComponentsParallel(g));
+            assertArrayEquals(expected, ParallelComponents.componentMap(g.freeze()));
+        }
+    }
+
+    @Test
+    public void largeGraphMatchesBfs() {
+        // Several times the entries of one leaf task, so edges are unioned concurrently
+        MyGraph g = RandomGraphs.generate(new Random(2), 100_000, 150_000, 1, 9);
+        CsrGraph csr = g.freeze();
+        assertArrayEquals(Main.calculateConnectedComponents(csr), Main.calculateConnectedComponentsParallel(csr));
+    }
+
+    @Test
+    public void highDegreeVertexIsSplitAcrossTasks() {
+        // A star whose centre's adjacency range alone spans several leaf tasks
+        GraphBuilder builder = new GraphBuilder();
+        for (int v = 1; v < 200_000; v += 2) {
+            builder.addEdge(100_000, v, 1);
+        }
+        builder.addVertex(0).addEdge(2, 4, 1);
+        CsrGraph csr = builder.buildCsr();
+        assertArrayEquals(Main.calculateConnectedComponents(csr), Main.calculateConnectedComponentsParallel(csr));
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.hw;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks bidirectional Dijkstra and ALT queries against a full Dijkstra search. When
+ * several shortest paths exist the queries may return another one, so previous vertices
+ * are checked to lie on a shortest path rather than to equal Dijkstra's.
+ */
+public class PointToPointTest {
+
+    /**
+     * Asserts that every settled vertex has its final distance and a previous vertex
+     * one edge back along a shortest path, and that pathTo(target) is a shortest path.
+     */
+    private static void assertShortest(CsrGraph g, ShortestPathResult expected, ShortestPathResult actual) {
+        int source = expected.getSource();
+        int target = actual.getTarget();
+        assertEquals(source, actual.getSource());
+        assertEquals(expected.getDistance(target), actual.getDistance(target));
+        for (int v : g.vertices) {
+            if (!actual.isSettled(v)) {
+                continue;
+            }
+            assertEquals(expected.getDistance(v), actual.getDistance(v), "distance of " + v);
+            int previous = actual.getPrevious(v);
+            if (v == source) {
+                assertEquals(-1, previous);
+            } else {
+                assertTrue(onShortestPath(g, expected, previous, v), previous + " -> " + v);
+            }
+        }
+
+        List<Integer> path = actual.pathTo(target);
+        if (expected.getDistance(target) == Integer.MAX_VALUE) {
+            assertTrue(path.isEmpty());
+            return;
+        }
+        assertEquals(source, path.get(0).intValue());
+        assertEquals(target, path.get(path.size() - 1).intValue());
+        for (int i = 1; i < path.size(); i++) {
+            assertTrue(onShortestPath(g, expected, path.get(i - 1), path.get(i)), "path " + path);
+        }
+    }
+
+    /**
+     * @return true if some edge u-v extends a shortest path to u into one to v.
+     */
+    private static boolean onShortestPath(CsrGraph g, ShortestPathResult expected, int u, int v) {
+        if (u < 0 || expected.getDistance(u) == Integer.MAX_VALUE) {
+            return false;
+        }
+        for (int i = g.offsets[u]; i < g.offsets[u + 1]; i++) {
+            if (g.targets[i] == v && expected.getDistance(u) + g.weights[i] == expected.getDistance(v)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Test
+    public void bidirectionalMatchesDijkstra() {
+        Random rand = new Random(1);
+        for (int trial = 0; trial < 200; trial++) {
+            MyGraph graph = RandomGraphs.generate(rand, 1 + rand.nextInt(50), rand.nextInt(150), 0,
+                    1 + rand.nextInt(rand.nextBoolean() ? 3 : 100));
+            CsrGraph g = graph.freeze();
+            for (int query = 0; query < 10; query++) {
+                int source = g.vertices[rand.nextInt(g.vertexCount())];
+                int target = g.vertices[rand.nextInt(g.vertexCount())];
+                ShortestPathResult expected = Main.shortestPath(g, source, ShortestPathResult.NO_TARGET);
+                assertShortest(g, expected, Main.shortestPathBidirectional(g, source, target));
+                assertShortest(g, expected, Main.shortestPathBidirectional(graph, source, target));
+            }
+        }
+    }
+
+    @Test
+    public void altMatchesDijkstra() {
+        Random rand = new Random(2);
+        for (int trial = 0; trial < 200; trial++) {
+            CsrGraph g = RandomGraphs.generate(rand, 1 + rand.nextInt(50), rand.nextInt(150), 0,
+                    1 + rand.nextInt(rand.nextBoolean() ? 3 : 100)).freeze();
+            int landmarkCount = 1 + rand.nextInt(4);
+            AltIndex index = new AltIndex(g, landmarkCount);
+            assertEquals(Math.min(landmarkCount, g.vertexCount()), index.getLandmarks().length);
+            for (int query = 0; query < 10; query++) {
+                int source = g.vertices[rand.nextInt(g.vertexCount())];
+                int target = g.vertices[rand.nextInt(g.vertexCount())];
+                ShortestPathResult expected = Main.shortestPath(g, source, ShortestPathResult.NO_TARGET);
+                ShortestPathResult actual = index.shortestPath(source, target);
+                assertShortest(g, expected, actual);
+                assertTrue(actual.getSettledCount() <= expected.getSettledCount());
+
+                // The bound never overestimates, and only claims unreachable when it is
+                int bound = index.lowerBound(source, target);
+                int distance = expected.getDistance(target);
+                assertTrue(bound <= distance, bound + " > " + distance);
+                assertTrue(bound != Integer.MAX_VALUE || distance == Integer.MAX_VALUE);
+            }
+        }
+    }
+
+    @Test
+    public void invalidQueriesAreRejected() {
+        CsrGraph g = new GraphBuilder().addEdge(0, 2, 1).buildCsr();
+        assertThrows(IllegalArgumentException.class, () -> Main.shortestPathBidirectional(g, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new AltIndex(g, 0));
+        assertThrows(IllegalArgumentException.class, () -> new AltIndex(g, 1).shortestPath(3, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AltIndex(new GraphBuilder().addEdge(0, 1, -1).buildCsr(), 1));
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.hw;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the heap-driven Prim's algorithm against the O(V * E) frontier scan it replaced.
+ */
+public class PrimTest {
+
+    /**
+     * The original algorithm: repeatedly take the lightest edge from a visited to an
+     * unvisited vertex, the first in vertex and adjacency-list order on ties.
+     */
+    private static MyGraph frontierScanForest(MyGraph g, int startingVertex) {
+        List<Integer> vertices = g.getVertices();
+        MyGraph tree = new MyGraph();
+        for (int v : vertices) {
+            tree.addVertex(v);
+        }
+        boolean[] visited = new boolean[vertices.get(vertices.size() - 1) + 1];
+        for (int root : vertices) {
+            if (startingVertex >= 0 && root != startingVertex || visited[root]) {
+                continue;
+            }
+            visited[root] = true;
+            while (true) {
+                Edge minEdge = null;
+                for (int v : vertices) {
+                    if (!visited[v]) {
+                        continue;
+                    }
+                    for (Edge e : g.getAdjList(v)) {
+                        int neighbor = (e.v1 == v) ? e.v2 : e.v1;
+                        if (!visited[neighbor] && (minEdge == null || e.weight < minEdge.weight)) {
+                            minEdge = e;
+                        }
+                    }
+                }
+                if (minEdge == null) {
+                    break;
+                }
+                visited[visited[minEdge.v1] ? minEdge.v2 : minEdge.v1] = true;
+                tree.addEdge(minEdge.v1, minEdge.v2, minEdge.weight);
+            }
+        }
+        return tree;
+    }
+
+    @Test
+    public void treeMatchesFrontierScan() {
+        Random rand = new Random(1);
+        for (int trial = 0; trial < 200; trial++) {
+            // Few distinct weights, so the tie-breaking order decides most edges
+            MyGraph g = RandomGraphs.generate(rand, 1 + rand.nextInt(40), rand.nextInt(100), 0, 1 + rand.nextInt(4));
+            List<Integer> vertices = g.getVertices();
+            int start = vertices.get(rand.nextInt(vertices.size()));
+            RandomGraphs.assertSameGraph(frontierScanForest(g, start), Main.minimumSpanningTree(g, start));
+            RandomGraphs.assertSameGraph(frontierScanForest(g, -1), Main.minimumSpanningForest(g));
+        }
+    }
+
+    @Test
+    public void forestSpansEveryComponent() {
+        Random rand = new Random(2);
+        for (int trial = 0; trial < 100; trial++) {
+            MyGraph g = RandomGraphs.generate(rand, 1 + rand.nextInt(60), rand.nextInt(120), -5, 50);
+            MyGraph forest = Main.minimumSpanningForest(g);
+            // Same components with exactly V - C edges means a spanning forest
+            assertArrayEquals(Main.calculateConnectedComponents(g), Main.calculateConnectedComponents(forest));
+            assertEquals(g.getVertices().size() - g.componentCount(), RandomGraphs.totalEdges(forest));
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.hw;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Small random graphs for comparing the graph algorithms with each other. Labels have
+ * gaps, some vertices are isolated, and there are parallel edges and self-loops, so the
+ * graphs are usually disconnected and exercise every corner of the label handling.
+ */
+final class RandomGraphs {
+
+    private RandomGraphs() {
+    }
+
+    /**
+     * Builds a graph through MyGraph.addVertex and addEdge.
+     * @param rand The source of randomness.
+     * @param vertexCount The number of vertices.
+     * @param edgeCount The number of edges.
+     * @param minWeight The smallest edge weight.
+     * @param maxWeight The largest edge weight.
+     * @return The graph.
+     */
+    static MyGraph generate(Random rand, int vertexCount, int edgeCount, int minWeight, int maxWeight) {
+        MyGraph g = new MyGraph();
+        int[] labels = labels(rand, vertexCount);
+        for (int v : labels) {
+            g.addVertex(v);
+        }
+        if (vertexCount == 0) {
+            return g;
+        }
+        for (int e = 0; e < edgeCount; e++) {
+            int i = rand.nextInt(vertexCount);
+            // Mostly nearby labels, so components form instead of one giant one
+            int j = Math.floorMod(i + rand.nextInt(7) - 3, vertexCount);
+            g.addEdge(labels[i], labels[j], minWeight + rand.nextInt(maxWeight - minWeight + 1));
+        }
+        return g;
+    }
+
+    /**
+     * @return vertexCount distinct labels below 2 * vertexCount, in random order.
+     */
+    static int[] labels(Random rand, int vertexCount) {
+        int[] pool = new int[2 * vertexCount];
+        for (int i = 0; i < pool.length; i++) {
+            pool[i] = i;
+        }
+        for (int i = pool.length - 1; i > 0; i--) {
+            int j = rand.nextInt(i + 1);
+            int tmp = pool[i];
+            pool[i] = pool[j];
+            pool[j] = tmp;
+        }
+        int[] labels = new int[vertexCount];
+        System.arraycopy(pool, 0, labels, 0, vertexCount);
+        return labels;
+    }
+
+    /**
+     * @return The sum of all edge weights, each edge counted once.
+     */
+    static long totalWeight(MyGraph g) {
+        long total = 0;
+        for (int v : g.getVertices()) {
+            for (Edge e : g.getAdjList(v)) {
+                total += e.weight;
+            }
+        }
+        // Every edge has two adjacency entries; a self-loop has both in one list
+        return total / 2;
+    }
+
+    /**
+     * @return The number of edges, each counted once.
+     */
+    static int totalEdges(MyGraph g) {
+        int entries = 0;
+        for (int v : g.getVertices()) {
+            entries += g.getAdjList(v).size();
+        }
+        return entries / 2;
+    }
+
+    /**
+     * Asserts that two graphs have the same vertices and the same adjacency lists,
+     * edge for edge and in the same order.
+     */
+    static void assertSameGraph(MyGraph expected, MyGraph actual) {
+        assertEquals(expected.getVertices(), actual.getVertices());
+        for (int v : expected.getVertices()) {
+            List<Edge> expectedList = expected.getAdjList(v);
+            List<Edge> actualList = actual.getAdjList(v);
+            assertEquals(expectedList.size(), actualList.size(), "degree of " + v);
+            for (int i = 0; i < expectedList.size(); i++) {
+                assertEquals(expectedList.get(i).toString(), actualList.get(i).toString(), "edge " + i + " of " + v);
+            }
+        }
+    }
+
+    /**
+     * Asserts that a CSR snapshot holds exactly the adjacency lists of a graph.
+     */
+    static void assertSameGraph(MyGraph expected, CsrGraph actual) {
+        List<Integer> vertices = expected.getVertices();
+        assertEquals(vertices.size(), actual.vertexCount());
+        int labelBound = vertices.isEmpty() ? 0 : vertices.get(vertices.size() - 1) + 1;
+        assertEquals(labelBound, actual.labelBound());
+        int entries = 0;
+        for (int k = 0; k < vertices.size(); k++) {
+            int v = vertices.get(k);
+            assertEquals(v, actual.vertices[k]);
+            List<Edge> list = expected.getAdjList(v);
+            assertEquals(list.size(), actual.degree(v), "degree of " + v);
+            for (int i = 0; i < list.size(); i++) {
+                Edge e = list.get(i);
+                int entry = actual.offsets[v] + i;
+                assertEquals(e.v1 == v ? e.v2 : e.v1, actual.targets[entry]);
+                assertEquals(e.weight, actual.weights[entry]);
+                assertEquals(v, actual.sourceOf(entry));
+            }
+            entries += list.size();
+        }
+        assertEquals(entries / 2, actual.edgeCount());
+    }
+}
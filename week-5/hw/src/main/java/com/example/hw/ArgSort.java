@@ -0,0 +1,244 @@
+import java.util.Arrays;
+
+/**
+ * Indirect sorting ("argsort") of Store arrays by primitive keys.
+ * Instead of moving Store references around and calling getSales() on every comparison,
+ * the keys are copied into a double[] once, an int[] permutation is sorted against that
+ * array, and the permutation is applied to the Store array in a single final pass.
+ * The sort is a stable merge sort, so several keys can be combined either through a
+ * tie-breaking rank array or by sorting from the least significant key upwards.
+ */
+public final class ArgSort {
+
+    /** Runs this short are sorted by insertion sort before merging starts. */
+    private static final int INSERTION_RUN = 32;
+
+    private ArgSort() {
+    }
+
+    /**
+     * Returns the permutation that sorts the keys, so keys[perm[0]], keys[perm[1]], ...
+     * is in order. Equal keys keep their original relative order.
+     *
+     * @param keys       The keys to sort by; not modified.
+     * @param descending true for highest first, false for lowest first.
+     * @return The sorting permutation.
+     */
+    public static int[] argsort(double[] keys, boolean descending) {
+        return argsort(keys, descending, null);
+    }
+
+    /**
+     * Returns the permutation that sorts the keys, breaking ties by ascending rank.
+     * Indices with equal key and rank keep their original relative order.
+     *
+     * @param keys       The primary keys; not modified.
+     * @param descending true to order the primary keys highest first.
+     * @param ranks      Secondary keys, always ascending, or null for none.
+     * @return The sorting permutation.
+     */
+    public static int[] argsort(double[] keys, boolean descending, int[] ranks) {
+        int n = keys.length;
+        if (ranks != null && ranks.length != n) {
+            throw new IllegalArgumentException("keys and ranks must have the same length");
+        }
+        int[] perm = new int[n];
+        for (int i = 0; i < n; i++) {
+            perm[i] = i;
+        }
+        sort(perm, keys, descending, ranks);
+        return perm;
+    }
+
+    /**
+     * Stably re-sorts an existing permutation by the given keys. Sorting first by a
+     * secondary key and then refining by the primary key gives a multi-key order.
+     *
+     * @param perm       The permutation to reorder in place.
+     * @param keys       The keys, indexed by the values in perm.
+     * @param descending true for highest first, false for lowest first.
+     */
+    public static void refine(int[] perm, double[] keys, boolean descending) {
+        sort(perm, keys, descending, null);
+    }
+
+    /**
+     * Copies every store's sales into a primitive array.
+     *
+     * @param stores The stores.
+     * @return sales[i] == stores[i].getSales().
+     */
+    public static double[] salesOf(Store[] stores) {
+        double[] sales = new double[stores.length];
+        for (int i = 0; i < stores.length; i++) {
+            sales[i] = stores[i].getSales();
+        }
+        return sales;
+    }
+
+    /**
+     * Ranks every store by owner name: equal owners share a rank and a lower rank
+     * means an alphabetically earlier owner.
+     *
+     * @param stores The stores.
+     * @return ranks[i] is the rank of stores[i].getOwner().
+     */
+    public static int[] ownerRanks(Store[] stores) {
+        int[] all = new int[stores.length];
+        for (int i = 0; i < all.length; i++) {
+            all[i] = i;
+        }
+        int[] ranks = new int[stores.length];
+        rankOwners(stores, all, 0, all.length, ranks);
+        return ranks;
+    }
+
+    /**
+     * Sets ranks[perm[i]] for every i in [lo, hi) to the rank of that store's owner
+     * among the owners in the range. This is the only step that compares Strings.
+     */
+    private static void rankOwners(Store[] stores, int[] perm, int lo, int hi, int[] ranks) {
+        String[] sorted = new String[hi - lo];
+        for (int i = lo; i < hi; i++) {
+            sorted[i - lo] = stores[perm[i]].getOwner();
+        }
+        Arrays.sort(sorted);
+
+        // Drop duplicates so each distinct owner maps to one rank
+        int distinct = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (distinct == 0 || !sorted[i].equals(sorted[distinct - 1])) {
+                sorted[distinct++] = sorted[i];
+            }
+        }
+
+        for (int i = lo; i < hi; i++) {
+            ranks[perm[i]] = Arrays.binarySearch(sorted, 0, distinct, stores[perm[i]].getOwner());
+        }
+    }
+
+    /**
+     * Rearranges the array so that the element at position i is the one that was at
+     * perm[i]. Uses one temporary copy of the references.
+     *
+     * @param arr  The array to rearrange.
+     * @param perm A permutation of 0..arr.length-1, e.g. from argsort.
+     * @param <T>  The element type.
+     */
+    public static <T> void apply(T[] arr, int[] perm) {
+        if (perm.length != arr.length) {
+            throw new IllegalArgumentException("perm must have the same length as the array");
+        }
+        T[] copy = arr.clone();
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = copy[perm[i]];
+        }
+    }
+
+    /**
+     * Sorts stores by sales, breaking ties by owner name (ascending).
+     *
+     * @param stores     The stores to sort in place.
+     * @param descending true for highest sales first.
+     */
+    public static void sortBySales(Store[] stores, boolean descending) {
+        double[] sales = salesOf(stores);
+        int[] perm = argsort(sales, descending);
+
+        // Owners only matter inside runs of equal sales, which are rare for real figures,
+        // so rank and re-sort just those runs instead of ranking every owner up front
+        int[] ranks = null;
+        int lo = 0;
+        while (lo < perm.length) {
+            int hi = lo + 1;
+            while (hi < perm.length && Double.compare(sales[perm[hi]], sales[perm[lo]]) == 0) {
+                hi++;
+            }
+            if (hi - lo > 1) {
+                if (ranks == null) {
+                    ranks = new int[perm.length];
+                }
+                rankOwners(stores, perm, lo, hi, ranks);
+                int[] run = Arrays.copyOfRange(perm, lo, hi);
+                sort(run, sales, descending, ranks);
+                System.arraycopy(run, 0, perm, lo, run.length);
+            }
+            lo = hi;
+        }
+        apply(stores, perm);
+    }
+
+    /**
+     * Bottom-up merge sort of perm: insertion-sorted runs, then passes that merge
+     * neighbouring runs back and forth between perm and a buffer.
+     */
+    private static void sort(int[] perm, double[] keys, boolean descending, int[] ranks) {
+        int n = perm.length;
+        for (int lo = 0; lo < n; lo += INSERTION_RUN) {
+            insertionSort(perm, lo, Math.min(lo + INSERTION_RUN, n), keys, descending, ranks);
+        }
+        if (n <= INSERTION_RUN) {
+            return;
+        }
+
+        int[] src = perm;
+        int[] dst = new int[n];
+        for (int width = INSERTION_RUN; width < n; width *= 2) {
+            for (int lo = 0; lo < n; lo += 2 * width) {
+                int mid = Math.min(lo + width, n);
+                int hi = Math.min(lo + 2 * width, n);
+                merge(src, dst, lo, mid, hi, keys, descending, ranks);
+            }
+            int[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if (src != perm) {
+            System.arraycopy(src, 0, perm, 0, n);
+        }
+    }
+
+    /**
+     * Merges src[lo..mid) and src[mid..hi) into dst[lo..hi). On ties the left run
+     * goes first, which keeps the sort stable.
+     */
+    private static void merge(int[] src, int[] dst, int lo, int mid, int hi,
+                              double[] keys, boolean descending, int[] ranks) {
+        int i = lo;
+        int j = mid;
+        int k = lo;
+        while (i < mid && j < hi) {
+            if (before(src[j], src[i], keys, descending, ranks)) {
+                dst[k++] = src[j++];
+            } else {
+                dst[k++] = src[i++];
+            }
+        }
+        System.arraycopy(src, i, dst, k, mid - i);
+        System.arraycopy(src, j, dst, k + (mid - i), hi - j);
+    }
+
+    private static void insertionSort(int[] perm, int lo, int hi,
+                                      double[] keys, boolean descending, int[] ranks) {
+        for (int i = lo + 1; i < hi; i++) {
+            int v = perm[i];
+            int j = i - 1;
+            while (j >= lo && before(v, perm[j], keys, descending, ranks)) {
+                perm[j + 1] = perm[j];
+                j--;
+            }
+            perm[j + 1] = v;
+        }
+    }
+
+    /**
+     * Returns true if index a must come strictly before index b.
+     */
+    private static boolean before(int a, int b, double[] keys, boolean descending, int[] ranks) {
+        int c = Double.compare(keys[a], keys[b]);
+        if (c != 0) {
+            return descending ? c > 0 : c < 0;
+        }
+        return ranks != null && ranks[a] < ranks[b];
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ * Linear-time LSD radix sort for double keys, used to sort Store arrays by sales.
+ * Each double is mapped to a long whose unsigned order matches the numeric order of
+ * the doubles, and the longs are sorted 11 bits at a time, carrying an index array
+ * along. The result is a permutation that is applied to the stores with ArgSort.apply.
+ * The sort is stable in both directions: stores with equal sales keep their input order.
+ */
+public final class DoubleRadixSort {
+
+    /** Bits per pass; 2048 counters fit in L1 cache and 6 passes cover 64 bits. */
+    private static final int DIGIT_BITS = 11;
+    private static final int RADIX = 1 << DIGIT_BITS;
+    private static final int PASSES = (64 + DIGIT_BITS - 1) / DIGIT_BITS;
+
+    private DoubleRadixSort() {
+    }
+
+    /**
+     * Maps a double to a long that compares like the double under Double.compare:
+     * -Infinity &lt; negatives &lt; -0.0 &lt; 0.0 &lt; positives &lt; Infinity &lt; NaN.
+     * Negative doubles get every bit flipped (their magnitude order is reversed),
+     * non-negative ones only the sign bit. The results order correctly when compared
+     * as unsigned numbers, which is how the radix passes read them.
+     *
+     * @param value The double to map.
+     * @return The order-preserving bit pattern.
+     */
+    public static long sortableBits(double value) {
+        long bits = Double.doubleToLongBits(value); // collapses all NaNs into one
+        return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+    }
+
+    /**
+     * Returns the permutation that sorts the keys, in O(n) time.
+     *
+     * @param keys       The keys to sort by; not modified.
+     * @param descending true for highest first, false for lowest first.
+     * @return The sorting permutation; equal keys keep their original order.
+     */
+    public static int[] argsort(double[] keys, boolean descending) {
+        int n = keys.length;
+        long[] bits = new long[n];
+        int[] perm = new int[n];
+        // Descending is ascending on the complemented bits, which keeps ties stable
+        long flip = descending ? -1L : 0L;
+        for (int i = 0; i < n; i++) {
+            bits[i] = sortableBits(keys[i]) ^ flip;
+            perm[i] = i;
+        }
+
+        // All histograms in one read of the keys
+        int[][] counts = new int[PASSES][RADIX];
+        for (int i = 0; i < n; i++) {
+            long b = bits[i];
+            for (int pass = 0; pass < PASSES; pass++) {
+                counts[pass][digit(b, pass)]++;
+            }
+        }
+
+        long[] bitsBuffer = new long[n];
+        int[] permBuffer = new int[n];
+        for (int pass = 0; pass < PASSES; pass++) {
+            int[] count = counts[pass];
+            // A pass where every key has the same digit would not move anything
+            if (n == 0 || count[digit(bits[0], pass)] == n) {
+                continue;
+            }
+
+            int sum = 0;
+            for (int d = 0; d < RADIX; d++) {
+                int c = count[d];
+                count[d] = sum;
+                sum += c;
+            }
+            for (int i = 0; i < n; i++) {
+                int pos = count[digit(bits[i], pass)]++;
+                bitsBuffer[pos] = bits[i];
+                permBuffer[pos] = perm[i];
+            }
+
+            long[] tempBits = bits;
+            bits = bitsBuffer;
+            bitsBuffer = tempBits;
+            int[] tempPerm = perm;
+            perm = permBuffer;
+            permBuffer = tempPerm;
+        }
+        return perm;
+    }
+
+    /**
+     * Sorts stores by sales in O(n) time.
+     *
+     * @param stores     The stores to sort in place.
+     * @param descending true for highest sales first, as Main.heapsort does.
+     */
+    public static void sortBySales(Store[] stores, boolean descending) {
+        ArgSort.apply(stores, argsort(ArgSort.salesOf(stores), descending));
+    }
+
+    /**
+     * Extracts the 11-bit digit for a pass; pass 0 is the least significant.
+     */
+    private static int digit(long bits, int pass) {
+        return (int) (bits >>> (pass * DIGIT_BITS)) & (RADIX - 1);
+    }
+}
@@ -45,15 +45,50 @@ public class Main {
         printStoreArray(stores, 10);
 
         // Part 2: Run the heapsort method
+        Store[] argSorted = stores.clone();
         heapsort(stores);
 
         System.out.println("\nSorted first 10 stores (Highest to Lowest Sales):");
         // Part 3: Print the sorted store array
         printStoreArray(stores, 10);
 
+        // The same order by argsort, which sorts an index array against the sales values
+        ArgSort.sortBySales(argSorted, true);
+        boolean same = true;
+        for (int i = 0; i < stores.length; i++) {
+            same &= stores[i].getSales() == argSorted[i].getSales();
+        }
+        System.out.println("ArgSort.sortBySales matches heapsort: " + same);
+
         // Part 4: Demonstrate that copy constructor and copyInstance work
         System.out.println("\n--- Deep Copy Demonstration ---");
         demonstrateDeepCopy();
+
+        // Part 5: Keep a bounded leaderboard with the double-ended heap
+        System.out.println("\n--- Min-Max Heap Leaderboard ---");
+        demonstrateLeaderboard(argSorted, 5);
+    }
+
+    /**
+     * Keeps the top stores by sales in a MinMaxPriorityQueueHeap of bounded size:
+     * whenever it grows past the limit, the lowest-sales store is evicted.
+     *
+     * @param stores The stores to stream through the leaderboard.
+     * @param limit  The number of stores to keep.
+     */
+    private static void demonstrateLeaderboard(Store[] stores, int limit) {
+        MinMaxPriorityQueueHeap board = new MinMaxPriorityQueueHeap();
+        for (Store store : stores) {
+            board.insert(store);
+            if (board.size() > limit) {
+                board.getLowestSalesStore();
+            }
+        }
+        System.out.println("Lowest store still on the board: " + board.peekLowestSalesStore());
+        System.out.println("Top " + limit + " stores (Highest to Lowest Sales):");
+        for (int i = 1; !board.isEmpty(); i++) {
+            System.out.printf("  %d: %s%n", i, board.getHighestSalesStore());
+        }
     }
 
     /**
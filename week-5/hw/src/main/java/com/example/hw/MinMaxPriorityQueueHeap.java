@@ -0,0 +1,294 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A double-ended priority queue of Store instances, implemented as a min-max heap.
+ * Nodes on even levels (the root is level 0) are no larger than any of their
+ * descendants, and nodes on odd levels are no smaller. So the lowest-sales store is
+ * the root and the highest-sales store is the larger of the root's two children:
+ * both ends can be peeked in O(1) and removed in O(log n) from a single array.
+ * The heap is implemented from scratch and does not use any Java Collection classes.
+ */
+public class MinMaxPriorityQueueHeap implements PriorityQueue<Store> {
+
+    private static final int DEFAULT_CAPACITY = 10;
+    private Store[] heap;
+    private int size;
+
+    /**
+     * Default constructor.
+     * Initializes an empty priority queue with a default initial capacity.
+     */
+    public MinMaxPriorityQueueHeap() {
+        this.heap = new Store[DEFAULT_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Copy constructor.
+     * Creates a new MinMaxPriorityQueueHeap that is a DEEP COPY of the other instance:
+     * the heap array and every Store in it are new instances.
+     *
+     * @param other The MinMaxPriorityQueueHeap instance to copy.
+     */
+    public MinMaxPriorityQueueHeap(MinMaxPriorityQueueHeap other) {
+        this.size = other.size;
+        this.heap = new Store[other.heap.length];
+        for (int i = 0; i < other.size; i++) {
+            this.heap[i] = new Store(other.heap[i]);
+        }
+    }
+
+    /**
+     * Creates and returns a new MinMaxPriorityQueueHeap instance that is a DEEP COPY
+     * of the current instance.
+     *
+     * @return A new, independent MinMaxPriorityQueueHeap instance with the same content.
+     */
+    public MinMaxPriorityQueueHeap copyInstance() {
+        return new MinMaxPriorityQueueHeap(this);
+    }
+
+    @Override
+    public void insert(Store element) {
+        ensureCapacity();
+        heap[size] = element;
+        size++;
+        pushUp(size - 1);
+    }
+
+    @Override
+    public Store getHighestSalesStore() {
+        int index = highestIndex();
+        Store max = heap[index];
+        removeAt(index);
+        return max;
+    }
+
+    /**
+     * Retrieves and removes the store with the lowest sales.
+     *
+     * @return The store with the lowest sales.
+     * @throws NoSuchElementException if the queue is empty.
+     */
+    public Store getLowestSalesStore() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Priority queue is empty.");
+        }
+        Store min = heap[0];
+        removeAt(0);
+        return min;
+    }
+
+    /**
+     * Returns the store with the highest sales without removing it.
+     *
+     * @return The store with the highest sales.
+     * @throws NoSuchElementException if the queue is empty.
+     */
+    public Store peekHighestSalesStore() {
+        return heap[highestIndex()];
+    }
+
+    /**
+     * Returns the store with the lowest sales without removing it.
+     *
+     * @return The store with the lowest sales.
+     * @throws NoSuchElementException if the queue is empty.
+     */
+    public Store peekLowestSalesStore() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Priority queue is empty.");
+        }
+        return heap[0];
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds the index of the maximum: the root if it is alone, otherwise the larger
+     * of its children, which are the two max-level nodes closest to the top.
+     *
+     * @return The index of the store with the highest sales.
+     */
+    private int highestIndex() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Priority queue is empty.");
+        }
+        if (size == 1) {
+            return 0;
+        }
+        if (size == 2 || sales(1) >= sales(2)) {
+            return 1;
+        }
+        return 2;
+    }
+
+    /**
+     * Removes the element at the given index by moving the last element into its
+     * place and pushing that element down.
+     *
+     * @param index The index of the element to remove.
+     */
+    private void removeAt(int index) {
+        size--;
+        heap[index] = heap[size];
+        heap[size] = null; // Help garbage collector
+        if (index < size) {
+            pushDown(index);
+        }
+    }
+
+    /**
+     * Restores the min-max property after an insertion. The new element is first
+     * compared with its parent to decide whether it belongs on min or max levels,
+     * then bubbles up through its grandparents on those levels only.
+     *
+     * @param index The index of the newly inserted element.
+     */
+    private void pushUp(int index) {
+        if (index == 0) {
+            return;
+        }
+        int parentIndex = (index - 1) / 2;
+        if (isMinLevel(index)) {
+            if (sales(index) > sales(parentIndex)) {
+                swap(index, parentIndex);
+                pushUpGrandparents(parentIndex, false);
+            } else {
+                pushUpGrandparents(index, true);
+            }
+        } else {
+            if (sales(index) < sales(parentIndex)) {
+                swap(index, parentIndex);
+                pushUpGrandparents(parentIndex, true);
+            } else {
+                pushUpGrandparents(index, false);
+            }
+        }
+    }
+
+    /**
+     * Moves an element up two levels at a time while it is smaller (on min levels)
+     * or larger (on max levels) than its grandparent.
+     *
+     * @param index    The index of the element to move.
+     * @param minLevel true if the element is on a min level.
+     */
+    private void pushUpGrandparents(int index, boolean minLevel) {
+        while (index > 2) {
+            int grandparentIndex = ((index - 1) / 2 - 1) / 2;
+            boolean outOfOrder = minLevel
+                    ? sales(index) < sales(grandparentIndex)
+                    : sales(index) > sales(grandparentIndex);
+            if (!outOfOrder) {
+                break;
+            }
+            swap(index, grandparentIndex);
+            index = grandparentIndex;
+        }
+    }
+
+    /**
+     * Restores the min-max property below the given index after its element was
+     * replaced. On a min level the element is swapped with the smallest of its
+     * children and grandchildren (the largest on a max level); after a swap with a
+     * grandchild it may also have to trade places with that grandchild's parent.
+     *
+     * @param index The index of the element to push down.
+     */
+    private void pushDown(int index) {
+        boolean minLevel = isMinLevel(index);
+        while (2 * index + 1 < size) {
+            int m = extremeDescendant(index, minLevel);
+            boolean outOfOrder = minLevel ? sales(m) < sales(index) : sales(m) > sales(index);
+            if (!outOfOrder) {
+                return;
+            }
+            swap(m, index);
+
+            if (m <= 2 * index + 2) {
+                return; // A child's own subtree is bounded by the value it just gave up
+            }
+            int parentIndex = (m - 1) / 2;
+            boolean parentOutOfOrder = minLevel
+                    ? sales(m) > sales(parentIndex)
+                    : sales(m) < sales(parentIndex);
+            if (parentOutOfOrder) {
+                swap(m, parentIndex);
+            }
+            index = m;
+        }
+    }
+
+    /**
+     * Finds the smallest (or largest) of up to two children and four grandchildren.
+     *
+     * @param index    The index whose descendants are searched; must have a child.
+     * @param smallest true to find the smallest, false for the largest.
+     * @return The index of the extreme descendant.
+     */
+    private int extremeDescendant(int index, boolean smallest) {
+        int best = 2 * index + 1;
+        if (best + 1 < size && isBetter(best + 1, best, smallest)) {
+            best++;
+        }
+        // The grandchildren are the four consecutive slots starting at 4i+3
+        int end = Math.min(4 * index + 7, size);
+        for (int c = 4 * index + 3; c < end; c++) {
+            if (isBetter(c, best, smallest)) {
+                best = c;
+            }
+        }
+        return best;
+    }
+
+    private boolean isBetter(int i, int j, boolean smallest) {
+        return smallest ? sales(i) < sales(j) : sales(i) > sales(j);
+    }
+
+    /**
+     * Checks whether an index lies on a min level (even depth).
+     *
+     * @param index The heap index.
+     * @return true for min levels, false for max levels.
+     */
+    private static boolean isMinLevel(int index) {
+        int depth = 31 - Integer.numberOfLeadingZeros(index + 1);
+        return depth % 2 == 0;
+    }
+
+    private double sales(int index) {
+        return heap[index].getSales();
+    }
+
+    /**
+     * Swaps two elements in the heap array.
+     *
+     * @param i The index of the first element.
+     * @param j The index of the second element.
+     */
+    private void swap(int i, int j) {
+        Store temp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = temp;
+    }
+
+    /**
+     * Ensures the internal array has enough capacity to add a new element.
+     * If the array is full, it is resized to double its current capacity.
+     */
+    private void ensureCapacity() {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+    }
+}
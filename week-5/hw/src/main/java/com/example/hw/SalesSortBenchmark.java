@@ -0,0 +1,75 @@
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+/**
+ * Times the ways of sorting stores by sales, highest first: Main.heapsort,
+ * Arrays.sort with a comparator, ArgSort and DoubleRadixSort.
+ * Usage: java -Xmx8g SalesSortBenchmark [size] [rounds]
+ * 100M stores need roughly 16 GB of heap for the Store objects and sort buffers.
+ */
+public class SalesSortBenchmark {
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Optional number of stores (default 10M) and rounds (default 3).
+     */
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+
+        Random rand = new Random(42);
+        Store[] stores = new Store[n];
+        for (int i = 0; i < n; i++) {
+            stores[i] = new Store("Owner_" + (i + 1), 1000 + (99000 * rand.nextDouble()));
+        }
+        // Arrays.sort is stable, so it is the reference order for the two stable sorts
+        Store[] expected = stores.clone();
+        Arrays.sort(expected, Comparator.comparingDouble(Store::getSales).reversed());
+
+        System.out.printf("%d stores, best of %d rounds%n", n, rounds);
+        System.out.printf("%-24s %10s%n", "Sort", "ms");
+
+        String[] names = { "Main.heapsort", "Arrays.sort", "ArgSort.sortBySales", "DoubleRadixSort" };
+        for (String name : names) {
+            long best = Long.MAX_VALUE;
+            for (int r = 0; r < rounds; r++) {
+                Store[] copy = stores.clone();
+                long start = System.nanoTime();
+                switch (name) {
+                    case "Main.heapsort":
+                        Main.heapsort(copy);
+                        break;
+                    case "Arrays.sort":
+                        Arrays.sort(copy, Comparator.comparingDouble(Store::getSales).reversed());
+                        break;
+                    case "ArgSort.sortBySales":
+                        ArgSort.sortBySales(copy, true);
+                        break;
+                    default:
+                        DoubleRadixSort.sortBySales(copy, true);
+                        break;
+                }
+                best = Math.min(best, System.nanoTime() - start);
+                checkOrder(name, copy, expected);
+            }
+            System.out.printf("%-24s %10.1f%n", name, best / 1e6);
+        }
+    }
+
+    /**
+     * Heapsort is not stable, so only the sales sequence is compared for it; the
+     * others must match the stable reference exactly.
+     */
+    private static void checkOrder(String name, Store[] actual, Store[] expected) {
+        for (int i = 0; i < actual.length; i++) {
+            boolean ok = name.equals("Main.heapsort")
+                    ? actual[i].getSales() == expected[i].getSales()
+                    : actual[i] == expected[i];
+            if (!ok) {
+                throw new IllegalStateException(name + " produced a wrong order at index " + i);
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests ArgSort against Arrays.sort on boxed indices, which is a stable merge sort too,
+ * so both must produce exactly the same permutation.
+ */
+public class ArgSortTest {
+
+    private static int[] referenceArgsort(double[] keys, boolean descending, int[] ranks) {
+        Integer[] perm = new Integer[keys.length];
+        for (int i = 0; i < perm.length; i++) {
+            perm[i] = i;
+        }
+        Comparator<Integer> byKey = (a, b) -> Double.compare(keys[a], keys[b]);
+        if (descending) {
+            byKey = byKey.reversed();
+        }
+        if (ranks != null) {
+            byKey = byKey.thenComparingInt(i -> ranks[i]);
+        }
+        Arrays.sort(perm, byKey);
+        return Arrays.stream(perm).mapToInt(Integer::intValue).toArray();
+    }
+
+    private static double[] randomKeys(Random rand, int n, int distinct) {
+        double[] keys = new double[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = rand.nextInt(distinct) - distinct / 2 + (rand.nextInt(4) == 0 ? 0.5 : 0.0);
+        }
+        return keys;
+    }
+
+    @Test
+    public void argsortIsStableInBothDirections() {
+        Random rand = new Random(1);
+        // Sizes around the insertion-run and merge-width boundaries, few distinct keys
+        for (int n : new int[] { 0, 1, 31, 32, 33, 64, 65, 1_000, 10_007 }) {
+            for (int distinct : new int[] { 1, 3, 100, 1_000_000 }) {
+                double[] keys = randomKeys(rand, n, distinct);
+                for (boolean descending : new boolean[] { false, true }) {
+                    assertArrayEquals(referenceArgsort(keys, descending, null), ArgSort.argsort(keys, descending));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void signedZerosAndNaNFollowDoubleCompare() {
+        double[] keys = { 0.0, Double.NaN, -0.0, -1.0, Double.NEGATIVE_INFINITY, 0.0, -0.0, Double.NaN, 1.0 };
+        assertArrayEquals(referenceArgsort(keys, false, null), ArgSort.argsort(keys, false));
+        assertArrayEquals(referenceArgsort(keys, true, null), ArgSort.argsort(keys, true));
+    }
+
+    @Test
+    public void ranksBreakTiesAndRefineChainsKeys() {
+        Random rand = new Random(2);
+        int n = 5_000;
+        double[] primary = randomKeys(rand, n, 10);
+        double[] secondary = randomKeys(rand, n, 10);
+        int[] ranks = rand.ints(n, 0, 7).toArray();
+        assertArrayEquals(referenceArgsort(primary, true, ranks), ArgSort.argsort(primary, true, ranks));
+
+        // Sorting by the secondary key and refining by the primary equals a two-key sort
+        int[] perm = ArgSort.argsort(secondary, false);
+        ArgSort.refine(perm, primary, true);
+        Integer[] expected = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            expected[i] = i;
+        }
+        Arrays.sort(expected, Comparator.<Integer>comparingDouble(i -> -primary[i])
+                .thenComparingDouble(i -> secondary[i]));
+        assertArrayEquals(Arrays.stream(expected).mapToInt(Integer::intValue).toArray(), perm);
+    }
+
+    @Test
+    public void sortBySalesBreaksTiesByOwner() {
+        Random rand = new Random(3);
+        Store[] stores = new Store[3_000];
+        for (int i = 0; i < stores.length; i++) {
+            stores[i] = new Store("Owner_" + rand.nextInt(500), rand.nextInt(40) * 10.0);
+        }
+        for (boolean descending : new boolean[] { false, true }) {
+            Store[] expected = stores.clone();
+            Comparator<Store> bySales = Comparator.comparingDouble(Store::getSales);
+            Arrays.sort(expected, (descending ? bySales.reversed() : bySales).thenComparing(Store::getOwner));
+            Store[] actual = stores.clone();
+            ArgSort.sortBySales(actual, descending);
+            for (int i = 0; i < stores.length; i++) {
+                assertSame(expected[i], actual[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests DoubleRadixSort against Arrays.sort, which orders doubles like Double.compare.
+ */
+public class DoubleRadixSortTest {
+
+    private static final double[] SPECIALS = {
+        0.0, -0.0, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+        Double.MIN_VALUE, -Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE,
+        Double.MIN_NORMAL, -Double.MIN_NORMAL, 1.0, -1.0, Double.longBitsToDouble(0x7ff8_0000_0000_0001L),
+    };
+
+    private static double[] permuted(double[] keys, int[] perm) {
+        double[] out = new double[perm.length];
+        for (int i = 0; i < perm.length; i++) {
+            out[i] = keys[perm[i]];
+        }
+        return out;
+    }
+
+    private static void assertSortsLikeArraysSort(double[] keys) {
+        double[] expected = keys.clone();
+        Arrays.sort(expected);
+        // assertArrayEquals compares doubles bit-wise up to NaN, so -0.0 and 0.0 differ
+        assertArrayEquals(expected, permuted(keys, DoubleRadixSort.argsort(keys, false)));
+
+        double[] reversed = new double[expected.length];
+        for (int i = 0; i < reversed.length; i++) {
+            reversed[i] = expected[expected.length - 1 - i];
+        }
+        assertArrayEquals(reversed, permuted(keys, DoubleRadixSort.argsort(keys, true)));
+    }
+
+    @Test
+    public void specialValuesSortLikeDoubleCompare() {
+        assertSortsLikeArraysSort(SPECIALS);
+        for (int i = 0; i < SPECIALS.length; i++) {
+            for (int j = 0; j < SPECIALS.length; j++) {
+                assertEquals(Integer.signum(Double.compare(SPECIALS[i], SPECIALS[j])),
+                        Integer.signum(Long.compareUnsigned(DoubleRadixSort.sortableBits(SPECIALS[i]),
+                                DoubleRadixSort.sortableBits(SPECIALS[j]))));
+            }
+        }
+    }
+
+    @Test
+    public void randomKeysMatchArraysSort() {
+        Random rand = new Random(1);
+        for (int n : new int[] { 0, 1, 2, 1_000, 100_000 }) {
+            double[] keys = new double[n];
+            for (int i = 0; i < n; i++) {
+                switch (rand.nextInt(4)) {
+                    case 0: keys[i] = SPECIALS[rand.nextInt(SPECIALS.length)]; break;
+                    case 1: keys[i] = Double.longBitsToDouble(rand.nextLong()); break;
+                    case 2: keys[i] = rand.nextInt(100) - 50; break;
+                    default: keys[i] = (rand.nextDouble() - 0.5) * 1e6; break;
+                }
+            }
+            assertSortsLikeArraysSort(keys);
+        }
+    }
+
+    @Test
+    public void equalKeysKeepInputOrder() {
+        Random rand = new Random(2);
+        double[] keys = new double[10_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = rand.nextBoolean() ? -0.0 : rand.nextInt(5) - 2;
+        }
+        // ArgSort is a stable merge sort, so the permutations must be identical
+        assertArrayEquals(ArgSort.argsort(keys, false), DoubleRadixSort.argsort(keys, false));
+        assertArrayEquals(ArgSort.argsort(keys, true), DoubleRadixSort.argsort(keys, true));
+
+        Store[] stores = new Store[keys.length];
+        for (int i = 0; i < stores.length; i++) {
+            stores[i] = new Store("Owner_" + i, keys[i]);
+        }
+        Store[] sorted = stores.clone();
+        DoubleRadixSort.sortBySales(sorted, true);
+        int[] perm = ArgSort.argsort(keys, true);
+        for (int i = 0; i < stores.length; i++) {
+            assertSame(stores[perm[i]], sorted[i]);
+        }
+    }
+}
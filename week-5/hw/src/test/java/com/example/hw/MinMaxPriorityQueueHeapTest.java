@@ -0,0 +1,89 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the min-max heap against a TreeMap multiset of sales figures.
+ */
+public class MinMaxPriorityQueueHeapTest {
+
+    private static void addTo(TreeMap<Double, Integer> counts, double sales, int delta) {
+        counts.merge(sales, delta, (a, b) -> a + b == 0 ? null : a + b);
+    }
+
+    @Test
+    public void bothEndsMatchTreeMap() {
+        Random rand = new Random(1);
+        MinMaxPriorityQueueHeap heap = new MinMaxPriorityQueueHeap();
+        TreeMap<Double, Integer> counts = new TreeMap<>();
+        int size = 0;
+        for (int step = 0; step < 100_000; step++) {
+            int op = size == 0 ? 0 : rand.nextInt(5);
+            if (op <= 1) {
+                double sales = rand.nextInt(2_000) / 4.0;
+                heap.insert(new Store("Owner_" + step, sales));
+                addTo(counts, sales, 1);
+                size++;
+            } else {
+                assertEquals(counts.firstKey().doubleValue(), heap.peekLowestSalesStore().getSales());
+                assertEquals(counts.lastKey().doubleValue(), heap.peekHighestSalesStore().getSales());
+                Store removed = op == 2 ? heap.getLowestSalesStore() : heap.getHighestSalesStore();
+                assertEquals((op == 2 ? counts.firstKey() : counts.lastKey()).doubleValue(), removed.getSales());
+                addTo(counts, removed.getSales(), -1);
+                size--;
+            }
+            assertEquals(size, heap.size());
+        }
+    }
+
+    @Test
+    public void drainingFromEitherEndGivesSortedOrder() {
+        Random rand = new Random(2);
+        for (int n : new int[] { 1, 2, 3, 4, 7, 8, 100, 1_001 }) {
+            MinMaxPriorityQueueHeap low = new MinMaxPriorityQueueHeap();
+            for (int i = 0; i < n; i++) {
+                low.insert(new Store("Owner_" + i, rand.nextInt(50)));
+            }
+            MinMaxPriorityQueueHeap high = low.copyInstance();
+            double previousLow = Double.NEGATIVE_INFINITY;
+            double previousHigh = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < n; i++) {
+                double lowSales = low.getLowestSalesStore().getSales();
+                double highSales = high.getHighestSalesStore().getSales();
+                assertTrue(lowSales >= previousLow);
+                assertTrue(highSales <= previousHigh);
+                previousLow = lowSales;
+                previousHigh = highSales;
+            }
+            assertTrue(low.isEmpty());
+            assertTrue(high.isEmpty());
+        }
+    }
+
+    @Test
+    public void copyIsDeep() {
+        MinMaxPriorityQueueHeap heap = new MinMaxPriorityQueueHeap();
+        heap.insert(new Store("A", 1));
+        heap.insert(new Store("B", 2));
+        MinMaxPriorityQueueHeap copy = heap.copyInstance();
+        copy.peekHighestSalesStore().setSales(0);
+        assertEquals(2.0, heap.peekHighestSalesStore().getSales());
+        copy.getLowestSalesStore();
+        assertEquals(2, heap.size());
+    }
+
+    @Test
+    public void emptyHeapThrows() {
+        MinMaxPriorityQueueHeap heap = new MinMaxPriorityQueueHeap();
+        assertThrows(NoSuchElementException.class, heap::getLowestSalesStore);
+        assertThrows(NoSuchElementException.class, heap::getHighestSalesStore);
+        assertThrows(NoSuchElementException.class, heap::peekLowestSalesStore);
+        assertThrows(NoSuchElementException.class, heap::peekHighestSalesStore);
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.hw;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A memory-compact variant of HashTable. Separate chaining is done with parallel primitive arrays
+ * instead of List/ListNode/Store objects, and owner names are stored as bytes in a shared
+ * OwnerArena, so find() compares bytes instead of Strings. Stores are only materialized when they
+ * are returned. Unlike HashTable, owner names are limited to OwnerArena.MAX_KEY_BYTES (65535) UTF-8
+ * bytes, the width of the arena's length field. DO NOT USE Java Collection Classes.
+ */
+class CompactHashTable {
+
+  private static final double MAX_LOAD_FACTOR = 0.75;
+  private static final int NO_ENTRY = -1;
+  private static final long NO_REF = -1L;
+
+  private final OwnerArena arena;
+  private int[] heads; // bucket -> first entry in its chain
+  private int[] next; // entry -> next entry in the same bucket
+  private long[] ownerRefs; // entry -> owner bytes in the arena
+  private double[] sales; // entry -> sales
+  private int numberOfElements;
+
+  /** Default constructor. Starts with 4 buckets and a private arena. */
+  public CompactHashTable() {
+    this(new OwnerArena(), 4);
+  }
+
+  /**
+   * Creates a table that stores owner names in the given arena.
+   *
+   * @param arena The arena to store owner names in. It may be shared with other tables.
+   * @param expectedElements The number of stores to allocate room for up front.
+   */
+  public CompactHashTable(OwnerArena arena, int expectedElements) {
+    int numBuckets = 4;
+    while (numBuckets * MAX_LOAD_FACTOR < expectedElements) {
+      numBuckets *= 2;
+    }
+    this.arena = arena;
+    this.heads = new int[numBuckets];
+    for (int i = 0; i < numBuckets; i++) {
+      heads[i] = NO_ENTRY;
+    }
+    int capacity = Math.max(4, expectedElements);
+    this.next = new int[capacity];
+    this.ownerRefs = new long[capacity];
+    this.sales = new double[capacity];
+    this.numberOfElements = 0;
+  }
+
+  /**
+   * Copy constructor. Copies the chain arrays; the arena is append-only, so both tables keep
+   * referencing the same owner bytes.
+   *
+   * @param other The table to copy.
+   */
+  public CompactHashTable(CompactHashTable other) {
+    this.arena = other.arena;
+    this.heads = other.heads.clone();
+    this.next = other.next.clone();
+    this.ownerRefs = other.ownerRefs.clone();
+    this.sales = other.sales.clone();
+    this.numberOfElements = other.numberOfElements;
+  }
+
+  public CompactHashTable copyInstance() {
+    return new CompactHashTable(this);
+  }
+
+  // Same transform as HashTable.hashFunction()
+  private static int bucketOf(int hash, int numBuckets) {
+    return Math.abs(hash % numBuckets);
+  }
+
+  // Internal method for rehashing when resizing. Hashes are recomputed from the arena bytes.
+  private void rehash(int newCapacity) {
+    int[] newHeads = new int[newCapacity];
+    for (int i = 0; i < newCapacity; i++) {
+      newHeads[i] = NO_ENTRY;
+    }
+    for (int e = 0; e < numberOfElements; e++) {
+      int index = bucketOf(arena.hash(ownerRefs[e]), newCapacity);
+      next[e] = newHeads[index];
+      newHeads[index] = e;
+    }
+    this.heads = newHeads;
+  }
+
+  // Grows the per-entry arrays when they are full
+  private void ensureEntryCapacity() {
+    if (numberOfElements == next.length) {
+      int newLength = next.length + (next.length >> 1);
+      int[] newNext = new int[newLength];
+      long[] newRefs = new long[newLength];
+      double[] newSales = new double[newLength];
+      System.arraycopy(next, 0, newNext, 0, numberOfElements);
+      System.arraycopy(ownerRefs, 0, newRefs, 0, numberOfElements);
+      System.arraycopy(sales, 0, newSales, 0, numberOfElements);
+      next = newNext;
+      ownerRefs = newRefs;
+      sales = newSales;
+    }
+  }
+
+  /**
+   * Adds a store to the hash table. Only the owner bytes and sales are kept. If the bucket already
+   * holds an entry with the same owner, its bytes in the arena are reused instead of stored again.
+   *
+   * @param s The store to add.
+   * @throws IllegalArgumentException if the owner name is longer than OwnerArena.MAX_KEY_BYTES
+   *     UTF-8 bytes.
+   */
+  public void add(Store s) {
+    if ((double) numberOfElements / heads.length > MAX_LOAD_FACTOR) {
+      rehash(heads.length * 2);
+    }
+    ensureEntryCapacity();
+
+    byte[] key = OwnerArena.encode(s.getOwner());
+    int index = bucketOf(OwnerArena.hash(key), heads.length);
+    long ref = NO_REF;
+    for (int e = heads[index]; e != NO_ENTRY; e = next[e]) {
+      if (arena.matches(ownerRefs[e], key)) {
+        ref = ownerRefs[e];
+        break;
+      }
+    }
+    int e = numberOfElements++;
+    ownerRefs[e] = ref != NO_REF ? ref : arena.store(key);
+    sales[e] = s.getSales();
+    // Prepend, like List.add
+    next[e] = heads[index];
+    heads[index] = e;
+  }
+
+  /**
+   * Searches the hash table for the store with the given owner.
+   *
+   * @param owner The owner to look for.
+   * @return A new Store with the stored data, or null if the owner is not present.
+   */
+  public Store find(String owner) {
+    if (owner == null) return null;
+
+    byte[] key = owner.getBytes(StandardCharsets.UTF_8);
+    if (key.length > OwnerArena.MAX_KEY_BYTES) {
+      return null; // add() never stores such a name
+    }
+    int index = bucketOf(OwnerArena.hash(key), heads.length);
+    for (int e = heads[index]; e != NO_ENTRY; e = next[e]) {
+      if (arena.matches(ownerRefs[e], key)) {
+        return new Store(owner, sales[e]);
+      }
+    }
+    return null;
+  }
+
+  public int size() {
+    return numberOfElements;
+  }
+
+  /**
+   * Estimates the heap used by this table's arrays, not counting the shared arena.
+   *
+   * @return The size in bytes.
+   */
+  public long arrayBytes() {
+    return 4L * heads.length + 4L * next.length + 8L * ownerRefs.length + 8L * sales.length;
+  }
+
+  /** Prints all data in the hash table, organized by bucket. */
+  public void show() {
+    System.out.println(
+        "--- Compact Hash Table Contents (Size: "
+            + heads.length
+            + ", Elements: "
+            + numberOfElements
+            + ", Load Factor: "
+            + String.format("%.2f", (double) numberOfElements / heads.length)
+            + ") ---");
+    for (int i = 0; i < heads.length; i++) {
+      StringBuilder sb = new StringBuilder();
+      sb.append("[");
+      for (int e = heads[i]; e != NO_ENTRY; e = next[e]) {
+        sb.append(new Store(arena.getOwner(ownerRefs[e]), sales[e]));
+        if (next[e] != NO_ENTRY) {
+          sb.append(", ");
+        }
+      }
+      sb.append("]");
+      System.out.println("Bucket " + i + ": " + sb);
+    }
+    System.out.println("------------------------------------------------------------------");
+  }
+}
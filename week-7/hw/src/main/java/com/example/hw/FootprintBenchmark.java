@@ -0,0 +1,51 @@
+package com.example.hw;
+
+/**
+ * Measures the retained heap of HashTable versus CompactHashTable for the same stores. Run with a
+ * large -Xmx, e.g. {@code java -Xmx64g com.example.hw.FootprintBenchmark 100000000}.
+ */
+public class FootprintBenchmark {
+
+  public static void main(String[] args) {
+    int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+    long before = usedHeap();
+    CompactHashTable compact = new CompactHashTable(new OwnerArena(), n);
+    for (int i = 0; i < n; i++) {
+      compact.add(new Store("Owner_" + i, i * 1.5));
+    }
+    long compactBytes = usedHeap() - before;
+    check(compact.find("Owner_" + (n / 2)), n / 2);
+    compact = null;
+
+    before = usedHeap();
+    HashTable table = new HashTable();
+    for (int i = 0; i < n; i++) {
+      table.add(new Store("Owner_" + i, i * 1.5));
+    }
+    long tableBytes = usedHeap() - before;
+    check(table.find("Owner_" + (n / 2)), n / 2);
+
+    System.out.println("\n--- Footprint for " + n + " stores ---");
+    System.out.printf(
+        "HashTable:        %,d bytes (%.1f bytes/store)%n", tableBytes, (double) tableBytes / n);
+    System.out.printf(
+        "CompactHashTable: %,d bytes (%.1f bytes/store)%n", compactBytes, (double) compactBytes / n);
+    System.out.printf("Reduction:        %.2fx%n", (double) tableBytes / compactBytes);
+  }
+
+  // Makes sure both tables are still reachable and correct when the heap is measured
+  private static void check(Store s, int i) {
+    if (s == null || s.getSales() != i * 1.5) {
+      throw new IllegalStateException("Lookup failed for Owner_" + i);
+    }
+  }
+
+  private static long usedHeap() {
+    Runtime rt = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return rt.totalMemory() - rt.freeMemory();
+  }
+}
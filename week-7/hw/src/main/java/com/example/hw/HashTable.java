@@ -9,6 +9,10 @@ class HashTable {
   private List[] buckets;
   private int numberOfElements;
   private static final double MAX_LOAD_FACTOR = 0.75;
+  // Optional secondary index ordered by sales; null until enableSalesIndex() is called
+  private SalesIndex salesIndex;
+  // Optional write-ahead log; copies made with the copy constructor are not logged
+  private WriteAheadLog log;
 
   // 3.a. Default constructor. Starts with 4 buckets.
   public HashTable() {
@@ -19,24 +23,60 @@ class HashTable {
     this.numberOfElements = 0;
   }
 
-  // 3.b. Copy constructor (DEEP COPY)
+  // 3.b. Copy constructor (copy-on-write; behaves like a DEEP COPY)
   public HashTable(HashTable other) {
     this.numberOfElements = other.numberOfElements;
     this.buckets = new List[other.buckets.length];
 
-    // Deep copy of the array of List objects
+    // Share every bucket instead of copying it. A bucket is only cloned (with the List's
+    // deep-copy constructor) the first time either table writes to it, see writableBucket().
+    // Stores never leave a List without being copied, so sharing them is safe.
     for (int i = 0; i < buckets.length; i++) {
-      // Use the List's copy constructor to ensure a DEEP COPY
-      // of the linked list and its Stores
-      this.buckets[i] = new List(other.buckets[i]);
+      this.buckets[i] = other.buckets[i].share();
+    }
+    // The sales index is shared the same way and cloned on the first write, see
+    // writableSalesIndex(), so copying an indexed table stays O(buckets)
+    if (other.salesIndex != null) {
+      this.salesIndex = other.salesIndex.share();
     }
   }
 
-  // 3.c. HashTable copyInstance() - DEEP COPY of the current instance
+  // 3.c. HashTable copyInstance() - copy-on-write snapshot of the current instance
   public HashTable copyInstance() {
     return new HashTable(this);
   }
 
+  /**
+   * Returns the bucket at the given index, cloning it first if another table still shares it.
+   * Every method that modifies a bucket must go through here.
+   *
+   * @param index The bucket index.
+   * @return A list owned only by this table.
+   */
+  private List writableBucket(int index) {
+    List bucket = buckets[index];
+    if (bucket.isShared()) {
+      bucket.release();
+      bucket = new List(bucket);
+      buckets[index] = bucket;
+    }
+    return bucket;
+  }
+
+  /**
+   * Returns the sales index, cloning it first if another table still shares it. Every method that
+   * modifies the index must go through here. Requires the index to exist.
+   *
+   * @return An index owned only by this table.
+   */
+  private SalesIndex writableSalesIndex() {
+    if (salesIndex.isShared()) {
+      salesIndex.release();
+      salesIndex = new SalesIndex(salesIndex);
+    }
+    return salesIndex;
+  }
+
   // Internal method to calculate the bucket index
   private int hashFunction(Store s) {
     // 2. Hash Function: Store.hashCode() % number_of_buckets
@@ -57,6 +97,8 @@ class HashTable {
     for (List oldList : buckets) {
       // Use List.toArray() to safely get all stores (as deep copies)
       Store[] listStores = oldList.toArray();
+      // This table no longer references the old list; a sharing snapshot may now own it alone
+      oldList.release();
       for (Store s : listStores) {
         // Calculate new index using the NEW capacity
         int newIndex = Math.abs(s.hashCode() % newCapacity);
@@ -82,10 +124,18 @@ class HashTable {
       System.out.println("--- RESIZE COMPLETE ---");
     }
 
+    // Log before applying, so a replay never misses an applied mutation
+    if (log != null) {
+      log.append(WriteAheadLog.OP_ADD, s.getOwner(), s.getSales());
+    }
+
     // Hash and add the store
     int index = hashFunction(s);
-    buckets[index].add(s); // List.add performs deep copy
+    writableBucket(index).add(s); // List.add performs deep copy
     numberOfElements++;
+    if (salesIndex != null) {
+      writableSalesIndex().insert(s.getOwner(), s.getSales());
+    }
   }
 
   // 3.e. Store find(String owner) – Searches the hash table for the store with the given owner.
@@ -100,6 +150,109 @@ class HashTable {
     return buckets[index].find(owner);
   }
 
+  /**
+   * Changes the sales of the store with the given owner, keeping the sales index in sync.
+   *
+   * @param owner The owner of the store to update.
+   * @param sales The new sales amount.
+   * @return true if the owner was found.
+   */
+  public boolean update(String owner, double sales) {
+    int index = hashFunction(new Store(owner, 0.0));
+    if (buckets[index].find(owner) == null) {
+      return false; // Don't clone a shared bucket for a miss
+    }
+    if (log != null) {
+      log.append(WriteAheadLog.OP_UPDATE, owner, sales);
+    }
+
+    Store old = writableBucket(index).update(owner, sales);
+    if (salesIndex != null) {
+      SalesIndex writable = writableSalesIndex();
+      writable.remove(old.getOwner(), old.getSales());
+      writable.insert(owner, sales);
+    }
+    return true;
+  }
+
+  /**
+   * Removes the store with the given owner, keeping the sales index in sync.
+   *
+   * @param owner The owner of the store to remove.
+   * @return The removed store, or null if the owner was not found.
+   */
+  public Store remove(String owner) {
+    int index = hashFunction(new Store(owner, 0.0));
+    if (buckets[index].find(owner) == null) {
+      return null; // Don't clone a shared bucket for a miss
+    }
+    if (log != null) {
+      log.append(WriteAheadLog.OP_REMOVE, owner, 0.0);
+    }
+
+    Store removed = writableBucket(index).remove(owner);
+    numberOfElements--;
+    if (salesIndex != null) {
+      writableSalesIndex().remove(removed.getOwner(), removed.getSales());
+    }
+    return removed;
+  }
+
+  /**
+   * Records every following add, update and remove in the given log before applying it. To
+   * recover after a restart, replay the log into an empty table first and then attach it.
+   *
+   * @param log The log to write to, or null to stop logging.
+   */
+  public void attachLog(WriteAheadLog log) {
+    this.log = log;
+  }
+
+  /**
+   * Builds the secondary index ordered by sales from the current contents. From then on add,
+   * update and remove keep it in sync. Does nothing if the index already exists.
+   */
+  public void enableSalesIndex() {
+    if (salesIndex != null) {
+      return;
+    }
+    salesIndex = new SalesIndex();
+    for (List bucket : buckets) {
+      for (Store s : bucket.toArray()) {
+        salesIndex.insert(s.getOwner(), s.getSales());
+      }
+    }
+  }
+
+  /**
+   * Returns the stores whose sales lie in [minSales, maxSales], lowest sales first. Requires the
+   * sales index.
+   *
+   * @param minSales The lower bound (inclusive).
+   * @param maxSales The upper bound (inclusive).
+   * @return An array of Store copies.
+   */
+  public Store[] findBySalesRange(double minSales, double maxSales) {
+    return requireSalesIndex().range(minSales, maxSales);
+  }
+
+  /**
+   * Returns the n stores with the highest sales, highest first. Requires the sales index.
+   *
+   * @param n The maximum number of stores to return.
+   * @return An array of Store copies.
+   */
+  public Store[] topBySales(int n) {
+    return requireSalesIndex().top(n);
+  }
+
+  private SalesIndex requireSalesIndex() {
+    if (salesIndex == null) {
+      throw new IllegalStateException("Sales index is not enabled. Call enableSalesIndex() first.");
+    }
+    return salesIndex;
+  }
+
   // 3.f. void show() – Prints all data in the hash table, organized by bucket.
   public void show() {
     System.out.println(
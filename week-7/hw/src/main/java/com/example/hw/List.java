@@ -25,6 +25,8 @@ class List {
 
   private ListNode head;
   private int size;
+  // Number of HashTables currently referencing this list (copy-on-write sharing)
+  private int owners = 1;
 
   // 2.a. Default constructor
   public List() {
@@ -86,10 +88,84 @@ class List {
     return null;
   }
 
+  /**
+   * Sets the sales of the first store with the given owner.
+   *
+   * @param owner The owner of the store to update.
+   * @param sales The new sales amount.
+   * @return A copy of the store as it was before the update, or null if the owner is not present.
+   */
+  public Store update(String owner, double sales) {
+    if (owner == null) return null;
+
+    ListNode current = head;
+    while (current != null) {
+      if (owner.equals(current.store.getOwner())) {
+        Store old = new Store(current.store);
+        current.store.setSales(sales);
+        return old;
+      }
+      current = current.next;
+    }
+    return null;
+  }
+
+  /**
+   * Removes the first store with the given owner.
+   *
+   * @param owner The owner of the store to remove.
+   * @return The removed store, or null if the owner is not present.
+   */
+  public Store remove(String owner) {
+    if (owner == null) return null;
+
+    ListNode previous = null;
+    ListNode current = head;
+    while (current != null) {
+      if (owner.equals(current.store.getOwner())) {
+        if (previous == null) {
+          head = current.next;
+        } else {
+          previous.next = current.next;
+        }
+        size--;
+        return current.store;
+      }
+      previous = current;
+      current = current.next;
+    }
+    return null;
+  }
+
   public int size() {
     return size;
   }
 
+  /**
+   * Registers one more HashTable as a reader of this list. Shared lists must not be mutated; the
+   * HashTable clones a shared list the first time it needs to write to it.
+   *
+   * @return This list, for convenience.
+   */
+  List share() {
+    owners++;
+    return this;
+  }
+
+  /** Drops one HashTable's reference to this list, e.g. after that table cloned or rehashed it. */
+  void release() {
+    owners--;
+  }
+
+  /**
+   * Checks whether more than one HashTable currently references this list.
+   *
+   * @return true if the list must be cloned before it is modified.
+   */
+  boolean isShared() {
+    return owners > 1;
+  }
+
   /**
    * Converts the list into an array of deep-copied Store instances. Used internally by the
    * HashTable for rehashing.
@@ -0,0 +1,158 @@
+package com.example.hw;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Append-only storage for owner names. Each name is kept as UTF-8 bytes in shared pages instead
+ * of as its own String, and is referenced by a single long that packs the byte offset and the byte
+ * length. Pages start small and double in size up to 16 MiB, so a small table only reserves a few
+ * KiB. The arena does not look names up itself; CompactHashTable reuses the reference of an equal
+ * name already in its chain. DO NOT USE Java Collection Classes.
+ */
+class OwnerArena {
+
+  // A reference is (offset << LENGTH_BITS) | length
+  private static final int LENGTH_BITS = 16;
+  static final int MAX_KEY_BYTES = (1 << LENGTH_BITS) - 1;
+
+  // Keys never span pages, so a page only needs to hold one maximum-length key
+  private static final int PAGE_BITS = 24;
+  private static final int PAGE_SIZE = 1 << PAGE_BITS;
+  private static final int FIRST_PAGE_SIZE = 1 << 12;
+
+  private byte[][] pages;
+  private int pageCount;
+  private int pageFill; // bytes used in the last page
+  private long reservedBytes;
+
+  /** Creates an empty arena. The first page is allocated on the first store. */
+  public OwnerArena() {
+    this.pages = new byte[4][];
+    this.pageCount = 0;
+    this.pageFill = 0;
+    this.reservedBytes = 0;
+  }
+
+  /**
+   * Encodes an owner name the same way the arena stores it.
+   *
+   * @param owner The owner name.
+   * @return The UTF-8 bytes of the name.
+   */
+  static byte[] encode(String owner) {
+    byte[] bytes = owner.getBytes(StandardCharsets.UTF_8);
+    if (bytes.length > MAX_KEY_BYTES) {
+      throw new IllegalArgumentException("Owner name longer than " + MAX_KEY_BYTES + " bytes.");
+    }
+    return bytes;
+  }
+
+  /**
+   * Hashes encoded owner bytes. For ASCII names this equals Store.hashCode(), so a
+   * CompactHashTable spreads owners over its buckets exactly like HashTable does.
+   *
+   * @param key The encoded owner name.
+   * @return The hash code value.
+   */
+  static int hash(byte[] key) {
+    int h = 0;
+    for (byte b : key) {
+      h = 31 * h + (b & 0xff);
+    }
+    return 31 + h; // Objects.hash(owner) == 31 + owner.hashCode()
+  }
+
+  /**
+   * Copies encoded owner bytes into the arena.
+   *
+   * @param key The encoded owner name, see encode(String).
+   * @return The reference to the stored bytes.
+   */
+  public long store(byte[] key) {
+    if (pageCount == 0 || pageFill + key.length > pages[pageCount - 1].length) {
+      if (pageCount == pages.length) {
+        byte[][] newPages = new byte[pages.length * 2][];
+        System.arraycopy(pages, 0, newPages, 0, pageCount);
+        pages = newPages;
+      }
+      // Each page is twice the previous one, capped at PAGE_SIZE; full pages are never copied
+      int size = FIRST_PAGE_SIZE;
+      if (pageCount > 0) {
+        size = Math.min(PAGE_SIZE, pages[pageCount - 1].length * 2);
+      }
+      size = Math.max(size, key.length);
+      pages[pageCount++] = new byte[size];
+      reservedBytes += size;
+      pageFill = 0;
+    }
+
+    long offset = ((long) (pageCount - 1) << PAGE_BITS) | pageFill;
+    System.arraycopy(key, 0, pages[pageCount - 1], pageFill, key.length);
+    pageFill += key.length;
+    return (offset << LENGTH_BITS) | key.length;
+  }
+
+  /**
+   * Compares stored bytes with an encoded owner name without decoding them.
+   *
+   * @param ref The reference returned by store().
+   * @param key The encoded owner name.
+   * @return true if both hold the same bytes.
+   */
+  public boolean matches(long ref, byte[] key) {
+    int length = (int) (ref & MAX_KEY_BYTES);
+    if (length != key.length) {
+      return false;
+    }
+    long offset = ref >>> LENGTH_BITS;
+    byte[] page = pages[(int) (offset >>> PAGE_BITS)];
+    int start = (int) (offset & (PAGE_SIZE - 1));
+    for (int i = 0; i < length; i++) {
+      if (page[start + i] != key[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Hashes stored bytes, giving the same value as hash(encode(owner)).
+   *
+   * @param ref The reference returned by store().
+   * @return The hash code value.
+   */
+  public int hash(long ref) {
+    int length = (int) (ref & MAX_KEY_BYTES);
+    long offset = ref >>> LENGTH_BITS;
+    byte[] page = pages[(int) (offset >>> PAGE_BITS)];
+    int start = (int) (offset & (PAGE_SIZE - 1));
+    int h = 0;
+    for (int i = 0; i < length; i++) {
+      h = 31 * h + (page[start + i] & 0xff);
+    }
+    return 31 + h;
+  }
+
+  /**
+   * Decodes stored bytes back into an owner name.
+   *
+   * @param ref The reference returned by store().
+   * @return The owner name.
+   */
+  public String getOwner(long ref) {
+    int length = (int) (ref & MAX_KEY_BYTES);
+    long offset = ref >>> LENGTH_BITS;
+    byte[] page = pages[(int) (offset >>> PAGE_BITS)];
+    int start = (int) (offset & (PAGE_SIZE - 1));
+    return new String(page, start, length, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Returns the number of bytes reserved by the arena's pages.
+   *
+   * @return The reserved size in bytes.
+   */
+  public long reservedBytes() {
+    return reservedBytes;
+  }
+}
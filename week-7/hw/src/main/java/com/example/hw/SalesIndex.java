@@ -0,0 +1,239 @@
+package com.example.hw;
+
+/**
+ * A secondary index over the stores of a HashTable, ordered by sales (ties broken by owner). It is
+ * a skip list, so insert, remove and locating a sales value take O(log n) expected time, and range
+ * and top-N queries take O(log n + k). DO NOT USE Java Collection Classes.
+ */
+class SalesIndex {
+
+  private static final int MAX_LEVEL = 32;
+
+  // Inner class for a skip list node. The bottom level is doubly linked for descending walks.
+  private static class IndexNode {
+    final String owner;
+    final double sales;
+    final IndexNode[] next;
+    IndexNode prev;
+
+    IndexNode(String owner, double sales, int level) {
+      this.owner = owner;
+      this.sales = sales;
+      this.next = new IndexNode[level];
+    }
+  }
+
+  private final IndexNode head;
+  private IndexNode tail;
+  private int level;
+  private int size;
+  private int seed;
+  // Number of HashTables currently referencing this index (copy-on-write sharing)
+  private int owners = 1;
+
+  /** Default constructor. Creates an empty index. */
+  public SalesIndex() {
+    this.head = new IndexNode(null, 0.0, MAX_LEVEL);
+    this.tail = null;
+    this.level = 1;
+    this.size = 0;
+    this.seed = 0x2545F491;
+  }
+
+  /**
+   * Copy constructor. Rebuilds the other index in O(n) by appending its entries in order.
+   *
+   * @param other The index to copy.
+   */
+  public SalesIndex(SalesIndex other) {
+    this();
+    IndexNode[] last = new IndexNode[MAX_LEVEL];
+    for (int i = 0; i < MAX_LEVEL; i++) {
+      last[i] = head;
+    }
+    for (IndexNode n = other.head.next[0]; n != null; n = n.next[0]) {
+      IndexNode copy = new IndexNode(n.owner, n.sales, randomLevel());
+      for (int i = 0; i < copy.next.length; i++) {
+        last[i].next[i] = copy;
+        last[i] = copy;
+      }
+      copy.prev = tail;
+      tail = copy;
+      level = Math.max(level, copy.next.length);
+      size++;
+    }
+  }
+
+  public SalesIndex copyInstance() {
+    return new SalesIndex(this);
+  }
+
+  // Orders nodes by sales, then by owner so equal sales have a stable position
+  private static int compare(double sales, String owner, IndexNode n) {
+    int c = Double.compare(sales, n.sales);
+    return c != 0 ? c : owner.compareTo(n.owner);
+  }
+
+  // Geometric level with p = 1/2, from a xorshift generator
+  private int randomLevel() {
+    seed ^= seed << 13;
+    seed ^= seed >>> 17;
+    seed ^= seed << 5;
+    int lvl = Integer.numberOfTrailingZeros(seed) + 1;
+    return Math.min(lvl, MAX_LEVEL);
+  }
+
+  /**
+   * Adds an entry for a store.
+   *
+   * @param owner The store's owner.
+   * @param sales The store's sales.
+   */
+  public void insert(String owner, double sales) {
+    IndexNode[] update = new IndexNode[MAX_LEVEL];
+    IndexNode x = head;
+    for (int i = level - 1; i >= 0; i--) {
+      while (x.next[i] != null && compare(sales, owner, x.next[i]) > 0) {
+        x = x.next[i];
+      }
+      update[i] = x;
+    }
+
+    int lvl = randomLevel();
+    if (lvl > level) {
+      for (int i = level; i < lvl; i++) {
+        update[i] = head;
+      }
+      level = lvl;
+    }
+
+    IndexNode node = new IndexNode(owner, sales, lvl);
+    for (int i = 0; i < lvl; i++) {
+      node.next[i] = update[i].next[i];
+      update[i].next[i] = node;
+    }
+    node.prev = (update[0] == head) ? null : update[0];
+    if (node.next[0] != null) {
+      node.next[0].prev = node;
+    } else {
+      tail = node;
+    }
+    size++;
+  }
+
+  /**
+   * Removes one entry for a store.
+   *
+   * @param owner The store's owner.
+   * @param sales The sales value the store was indexed with.
+   * @return true if an entry was removed.
+   */
+  public boolean remove(String owner, double sales) {
+    IndexNode[] update = new IndexNode[MAX_LEVEL];
+    IndexNode x = head;
+    for (int i = level - 1; i >= 0; i--) {
+      while (x.next[i] != null && compare(sales, owner, x.next[i]) > 0) {
+        x = x.next[i];
+      }
+      update[i] = x;
+    }
+
+    IndexNode target = x.next[0];
+    if (target == null || compare(sales, owner, target) != 0) {
+      return false;
+    }
+
+    for (int i = 0; i < target.next.length; i++) {
+      update[i].next[i] = target.next[i];
+    }
+    if (target.next[0] != null) {
+      target.next[0].prev = target.prev;
+    } else {
+      tail = target.prev;
+    }
+    while (level > 1 && head.next[level - 1] == null) {
+      level--;
+    }
+    size--;
+    return true;
+  }
+
+  // Returns the first node with sales >= the given value, or null
+  private IndexNode ceiling(double sales) {
+    IndexNode x = head;
+    for (int i = level - 1; i >= 0; i--) {
+      while (x.next[i] != null && Double.compare(x.next[i].sales, sales) < 0) {
+        x = x.next[i];
+      }
+    }
+    return x.next[0];
+  }
+
+  /**
+   * Returns the stores whose sales lie in [minSales, maxSales], lowest sales first.
+   *
+   * @param minSales The lower bound (inclusive).
+   * @param maxSales The upper bound (inclusive).
+   * @return An array of new Store instances.
+   */
+  public Store[] range(double minSales, double maxSales) {
+    IndexNode first = ceiling(minSales);
+    int count = 0;
+    for (IndexNode n = first; n != null && Double.compare(n.sales, maxSales) <= 0; n = n.next[0]) {
+      count++;
+    }
+
+    Store[] stores = new Store[count];
+    IndexNode n = first;
+    for (int i = 0; i < count; i++) {
+      stores[i] = new Store(n.owner, n.sales);
+      n = n.next[0];
+    }
+    return stores;
+  }
+
+  /**
+   * Returns the stores with the highest sales, highest first.
+   *
+   * @param n The maximum number of stores to return.
+   * @return An array of at most n new Store instances.
+   */
+  public Store[] top(int n) {
+    Store[] stores = new Store[Math.max(0, Math.min(n, size))];
+    IndexNode x = tail;
+    for (int i = 0; i < stores.length; i++) {
+      stores[i] = new Store(x.owner, x.sales);
+      x = x.prev;
+    }
+    return stores;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Registers one more HashTable as a reader of this index. A shared index must not be mutated;
+   * the HashTable clones it the first time it needs to write to it.
+   *
+   * @return This index, for convenience.
+   */
+  SalesIndex share() {
+    owners++;
+    return this;
+  }
+
+  /** Drops one HashTable's reference to this index, e.g. after that table cloned it. */
+  void release() {
+    owners--;
+  }
+
+  /**
+   * Checks whether more than one HashTable currently references this index.
+   *
+   * @return true if the index must be cloned before it is modified.
+   */
+  boolean isShared() {
+    return owners > 1;
+  }
+}
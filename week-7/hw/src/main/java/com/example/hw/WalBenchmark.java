@@ -0,0 +1,66 @@
+package com.example.hw;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Measures HashTable.add throughput with a write-ahead log at different group-commit batch sizes,
+ * then checks that replaying each log rebuilds the table. Usage: {@code java
+ * com.example.hw.WalBenchmark [numAdds] [maxDelayMillis]}.
+ */
+public class WalBenchmark {
+
+  private static final int[] BATCH_SIZES = {1, 8, 64, 512, 4096};
+
+  public static void main(String[] args) throws IOException {
+    int n = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+    long maxDelayMillis = args.length > 1 ? Long.parseLong(args[1]) : 0;
+
+    PrintStream console = System.out;
+    console.println("--- Write-Ahead Log Throughput (" + n + " adds) ---");
+    console.println("Batch\tAdds/sec\tforce() calls\tReplay ms");
+
+    for (int batchSize : BATCH_SIZES) {
+      Path file = Files.createTempFile("hashtable", ".wal");
+      try {
+        // HashTable prints a message on every resize; keep it out of the results
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        HashTable table = new HashTable();
+        long commits;
+        long start = System.nanoTime();
+        try (WriteAheadLog wal = new WriteAheadLog(file, batchSize, maxDelayMillis)) {
+          table.attachLog(wal);
+          for (int i = 0; i < n; i++) {
+            table.add(new Store("Owner_" + i, i * 1.5));
+          }
+          wal.sync();
+          commits = wal.getCommitCount();
+        }
+        long addNanos = System.nanoTime() - start;
+
+        HashTable recovered = new HashTable();
+        start = System.nanoTime();
+        try (WriteAheadLog wal = new WriteAheadLog(file, batchSize, 0)) {
+          wal.replay(recovered);
+        }
+        long replayNanos = System.nanoTime() - start;
+        System.setOut(console);
+
+        Store check = recovered.find("Owner_" + (n - 1));
+        if (check == null || check.getSales() != (n - 1) * 1.5) {
+          throw new IllegalStateException("Replay did not rebuild the table.");
+        }
+        console.printf(
+            "%d\t%.0f\t\t%d\t\t%.1f%n",
+            batchSize, n / (addNanos / 1e9), commits, replayNanos / 1e6);
+      } finally {
+        System.setOut(console);
+        Files.deleteIfExists(file);
+      }
+    }
+  }
+}
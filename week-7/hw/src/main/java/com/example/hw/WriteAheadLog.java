@@ -0,0 +1,288 @@
+package com.example.hw;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * A write-ahead log for HashTable mutations with group commit. Records are buffered in memory and
+ * written with a single force() once maxBatchSize records are pending or maxDelayMillis has passed
+ * since the last commit, whichever comes first. A mutation is durable once its batch is committed,
+ * so a crash can lose at most the records of the open batch; call sync() to commit immediately.
+ *
+ * <p>If a commit fails, the log is unusable from then on: the unwritten batch is dropped and every
+ * later append() and sync() throws, so HashTable stops accepting mutations that could not be made
+ * durable. The records of the failed batch were already applied to the table but are not in the
+ * log.
+ *
+ * <p>Record layout: [int payloadLength][payload][int crc32], with payload = [byte op][double
+ * sales][owner UTF-8 bytes]. The int length covers any owner name String.getBytes can encode, so a
+ * logged table accepts the same names as an unlogged one. Replay stops at the first torn or corrupt
+ * record and truncates it.
+ */
+class WriteAheadLog implements AutoCloseable {
+
+  static final byte OP_ADD = 1;
+  static final byte OP_UPDATE = 2;
+  static final byte OP_REMOVE = 3;
+
+  private static final int HEADER_BYTES = 4;
+  private static final int TRAILER_BYTES = 4;
+  private static final int FIXED_PAYLOAD_BYTES = 1 + 8;
+
+  private final FileChannel channel;
+  private final int maxBatchSize;
+  private final ScheduledExecutorService flusher;
+  private final CRC32 crc = new CRC32();
+  private ByteBuffer pending;
+  private int pendingRecords;
+  private long commits;
+  private IOException failure; // set when a commit fails; the log rejects all writes after that
+  private boolean replayed;
+  private boolean appended;
+  private boolean closed;
+
+  /**
+   * Opens (or creates) a log file. New records are appended after the existing ones.
+   *
+   * @param file The log file.
+   * @param maxBatchSize Commit once this many records are pending. 1 forces every record.
+   * @param maxDelayMillis Also commit pending records this often; 0 disables the timer.
+   * @throws IOException if the file cannot be opened.
+   */
+  public WriteAheadLog(Path file, int maxBatchSize, long maxDelayMillis) throws IOException {
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException("maxBatchSize must be at least 1.");
+    }
+    this.channel =
+        FileChannel.open(
+            file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    this.channel.position(channel.size());
+    this.maxBatchSize = maxBatchSize;
+    this.pending = ByteBuffer.allocate(64 * 1024);
+
+    if (maxDelayMillis > 0) {
+      this.flusher =
+          Executors.newSingleThreadScheduledExecutor(
+              r -> {
+                Thread t = new Thread(r, "wal-group-commit");
+                t.setDaemon(true);
+                return t;
+              });
+      this.flusher.scheduleWithFixedDelay(
+          this::commitQuietly, maxDelayMillis, maxDelayMillis, TimeUnit.MILLISECONDS);
+    } else {
+      this.flusher = null;
+    }
+  }
+
+  /**
+   * Rebuilds a table from the log by applying every complete record in order. Must be called
+   * before anything is appended. A torn record at the end (from a crash mid-write) is truncated.
+   *
+   * @param table The table to apply the records to. It should not have this log attached.
+   * @return The number of records applied.
+   * @throws IOException if the file cannot be read.
+   */
+  public synchronized long replay(HashTable table) throws IOException {
+    if (appended || replayed) {
+      throw new IllegalStateException("replay() must be the first operation on the log.");
+    }
+    replayed = true;
+
+    long validEnd = 0;
+    long records = 0;
+    long size = channel.size();
+    ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+    while (validEnd + HEADER_BYTES + TRAILER_BYTES <= size) {
+      header.clear();
+      readFully(header, validEnd);
+      int payloadLength = header.getInt(0);
+      if (payloadLength < FIXED_PAYLOAD_BYTES
+          || validEnd + HEADER_BYTES + (long) payloadLength + TRAILER_BYTES > size) {
+        break;
+      }
+
+      ByteBuffer record = ByteBuffer.allocate(payloadLength + TRAILER_BYTES);
+      readFully(record, validEnd + HEADER_BYTES);
+      crc.reset();
+      crc.update(record.array(), 0, payloadLength);
+      if ((int) crc.getValue() != record.getInt(payloadLength)) {
+        break;
+      }
+
+      byte op = record.get(0);
+      double sales = record.getDouble(1);
+      String owner =
+          new String(
+              record.array(),
+              FIXED_PAYLOAD_BYTES,
+              payloadLength - FIXED_PAYLOAD_BYTES,
+              StandardCharsets.UTF_8);
+      if (op == OP_ADD) {
+        table.add(new Store(owner, sales));
+      } else if (op == OP_UPDATE) {
+        table.update(owner, sales);
+      } else if (op == OP_REMOVE) {
+        table.remove(owner);
+      } else {
+        break;
+      }
+      validEnd += HEADER_BYTES + payloadLength + TRAILER_BYTES;
+      records++;
+    }
+
+    if (validEnd < size) {
+      channel.truncate(validEnd);
+      channel.force(true);
+    }
+    channel.position(validEnd);
+    return records;
+  }
+
+  private void readFully(ByteBuffer buffer, long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new IOException("Unexpected end of log.");
+      }
+    }
+  }
+
+  /**
+   * Appends a record to the open batch and commits the batch if it is full.
+   *
+   * @param op One of OP_ADD, OP_UPDATE or OP_REMOVE.
+   * @param owner The owner the mutation applies to.
+   * @param sales The new sales amount (ignored by OP_REMOVE).
+   * @throws IllegalStateException if the log has been closed.
+   */
+  public synchronized void append(byte op, String owner, double sales) {
+    checkWritable();
+    appended = true;
+    byte[] ownerBytes = owner.getBytes(StandardCharsets.UTF_8);
+    int payloadLength = FIXED_PAYLOAD_BYTES + ownerBytes.length;
+    int recordLength = HEADER_BYTES + payloadLength + TRAILER_BYTES;
+    if (pending.remaining() < recordLength) {
+      // Doubling is capped so a very long name cannot overflow the new capacity
+      long capacity = Math.max(2L * pending.capacity(), (long) pending.position() + recordLength);
+      ByteBuffer larger = ByteBuffer.allocate((int) Math.min(capacity, Integer.MAX_VALUE - 8));
+      pending.flip();
+      larger.put(pending);
+      pending = larger;
+    }
+
+    int start = pending.position();
+    pending.putInt(payloadLength);
+    pending.put(op);
+    pending.putDouble(sales);
+    pending.put(ownerBytes);
+    crc.reset();
+    crc.update(pending.array(), start + HEADER_BYTES, payloadLength);
+    pending.putInt((int) crc.getValue());
+    pendingRecords++;
+
+    if (pendingRecords >= maxBatchSize) {
+      commit();
+    }
+  }
+
+  /**
+   * Writes and forces all pending records.
+   *
+   * @throws IllegalStateException if the log has been closed.
+   */
+  public synchronized void sync() {
+    checkWritable();
+    commit();
+  }
+
+  // Throws if the log was closed or an earlier commit failed; caller holds the lock
+  private void checkWritable() {
+    if (closed) {
+      throw new IllegalStateException("Write-ahead log is closed.");
+    }
+    if (failure != null) {
+      throw new UncheckedIOException("Write-ahead log is unusable after a failed commit.", failure);
+    }
+  }
+
+  // Writes the open batch with one force(); caller holds the lock
+  private void commit() {
+    if (pendingRecords == 0) {
+      return;
+    }
+    try {
+      pending.flip();
+      while (pending.hasRemaining()) {
+        channel.write(pending);
+      }
+      channel.force(false);
+      commits++;
+    } catch (IOException e) {
+      // Part of the batch may have reached the file; replay truncates any torn record
+      failure = e;
+      throw new UncheckedIOException("Could not commit write-ahead log batch.", e);
+    } finally {
+      // Committed, or dropped with the failed log; the buffer and its count go together
+      pending.clear();
+      pendingRecords = 0;
+    }
+  }
+
+  // Timer commits; a failure stops the timer and is reported by the next append() or sync()
+  private synchronized void commitQuietly() {
+    try {
+      commit();
+    } catch (UncheckedIOException e) {
+      flusher.shutdown();
+    }
+  }
+
+  /**
+   * Returns the number of force() calls made so far.
+   *
+   * @return The commit count.
+   */
+  public synchronized long getCommitCount() {
+    return commits;
+  }
+
+  /**
+   * Commits pending records and closes the file. Later appends and syncs throw; closing again does
+   * nothing.
+   *
+   * @throws IOException if the final commit, or an earlier one, failed.
+   */
+  @Override
+  public void close() throws IOException {
+    if (flusher != null) {
+      flusher.shutdown();
+    }
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      try {
+        if (failure == null) {
+          commit();
+        }
+      } catch (UncheckedIOException e) {
+        // commit() recorded the cause in failure
+      } finally {
+        channel.close();
+      }
+      if (failure != null) {
+        throw new IOException("Write-ahead log batch was not committed.", failure);
+      }
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package com.example.hw;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for CompactHashTable against the String-keyed HashTable.
+ */
+public class CompactHashTableTest {
+
+    @Test
+    public void findsTheSameStoresAsHashTable() {
+        HashTable reference = new HashTable();
+        CompactHashTable compact = new CompactHashTable();
+        for (int i = 0; i < 1000; i++) {
+            Store s = new Store("Owner_" + i + "_é", i);
+            reference.add(s);
+            compact.add(s);
+        }
+        assertEquals(1000, compact.size());
+        for (int i = 0; i < 1100; i++) {
+            String owner = "Owner_" + i + "_é";
+            Store expected = reference.find(owner);
+            Store actual = compact.find(owner);
+            if (expected == null) {
+                assertNull(actual);
+            } else {
+                assertEquals(expected.getOwner(), actual.getOwner());
+                assertEquals(expected.getSales(), actual.getSales());
+            }
+        }
+    }
+
+    @Test
+    public void ownerNamesOverTheLimitAreRejectedOnAddAndMissedOnFind() {
+        CompactHashTable table = new CompactHashTable();
+        String owner = "x".repeat(OwnerArena.MAX_KEY_BYTES + 1);
+        assertNull(table.find(owner));
+        assertThrows(IllegalArgumentException.class, () -> table.add(new Store(owner, 1)));
+        assertEquals(0, table.size());
+    }
+}
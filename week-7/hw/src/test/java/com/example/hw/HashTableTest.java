@@ -0,0 +1,32 @@
+package com.example.hw;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Copy-on-write tests for HashTable and its sales index.
+ */
+public class HashTableTest {
+
+    @Test
+    public void copiesShareSalesIndexUntilEitherWrites() {
+        HashTable original = new HashTable();
+        for (int i = 0; i < 100; i++) {
+            original.add(new Store("Owner_" + i, i));
+        }
+        original.enableSalesIndex();
+
+        HashTable copy = original.copyInstance();
+        HashTable secondCopy = copy.copyInstance();
+        copy.update("Owner_0", 1000);
+        original.remove("Owner_99");
+
+        assertEquals("Owner_0", copy.topBySales(1)[0].getOwner());
+        assertEquals(100, copy.findBySalesRange(0, 1000).length);
+        assertEquals("Owner_98", original.topBySales(1)[0].getOwner());
+        assertEquals(99, original.findBySalesRange(0, 1000).length);
+        assertEquals("Owner_99", secondCopy.topBySales(1)[0].getOwner());
+        assertEquals(100, secondCopy.findBySalesRange(0, 1000).length);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.hw;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Crash and replay tests for the write-ahead log.
+ */
+public class WriteAheadLogTest {
+
+    @TempDir
+    Path dir;
+
+    private static void logStores(Path file, String... owners) throws IOException {
+        try (WriteAheadLog log = new WriteAheadLog(file, 1, 0)) {
+            HashTable table = new HashTable();
+            table.attachLog(log);
+            for (int i = 0; i < owners.length; i++) {
+                table.add(new Store(owners[i], i));
+            }
+            log.sync();
+        }
+    }
+
+    private static HashTable replay(Path file) throws IOException {
+        HashTable table = new HashTable();
+        try (WriteAheadLog log = new WriteAheadLog(file, 1, 0)) {
+            log.replay(table);
+        }
+        return table;
+    }
+
+    @Test
+    public void replayStopsAtTornRecordAndTruncatesIt() throws IOException {
+        Path file = dir.resolve("torn.wal");
+        logStores(file, "A", "B", "C");
+        long fullSize = Files.size(file);
+        // Cut the last record in half, as a crash mid-write would
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(fullSize - 5);
+        }
+
+        HashTable table = new HashTable();
+        try (WriteAheadLog log = new WriteAheadLog(file, 1, 0)) {
+            assertEquals(2, log.replay(table));
+            assertNotNull(table.find("A"));
+            assertNotNull(table.find("B"));
+            assertNull(table.find("C"));
+
+            // The log keeps working after the torn tail is cut off
+            table.attachLog(log);
+            table.add(new Store("D", 4));
+            log.sync();
+        }
+
+        HashTable replayed = replay(file);
+        assertNotNull(replayed.find("A"));
+        assertNotNull(replayed.find("B"));
+        assertNull(replayed.find("C"));
+        assertEquals(4, replayed.find("D").getSales());
+    }
+
+    @Test
+    public void replayIgnoresGarbageAfterLastRecord() throws IOException {
+        Path file = dir.resolve("garbage.wal");
+        logStores(file, "A", "B");
+        long validSize = Files.size(file);
+        Files.write(file, new byte[] {0, 0, 0, 42, 1, 2, 3, 4, 5, 6, 7, 8, 9}, StandardOpenOption.APPEND);
+
+        HashTable table = replay(file);
+        assertNotNull(table.find("A"));
+        assertNotNull(table.find("B"));
+        assertEquals(validSize, Files.size(file));
+    }
+
+    @Test
+    public void longOwnerNameRoundTrips() throws IOException {
+        Path file = dir.resolve("long.wal");
+        // Well past 65535 UTF-8 bytes; a table without a log accepts it too
+        String owner = "é".repeat(40_000);
+        logStores(file, owner);
+
+        HashTable table = replay(file);
+        assertNotNull(table.find(owner));
+    }
+
+    @Test
+    public void appendAfterFailedCommitThrows() throws Exception {
+        Path file = dir.resolve("failed.wal");
+        WriteAheadLog log = new WriteAheadLog(file, 1, 0);
+        HashTable table = new HashTable();
+        table.attachLog(log);
+        table.add(new Store("A", 1));
+
+        // Closing the channel under the log makes the next commit fail
+        Field channel = WriteAheadLog.class.getDeclaredField("channel");
+        channel.setAccessible(true);
+        ((FileChannel) channel.get(log)).close();
+        assertThrows(UncheckedIOException.class, () -> table.add(new Store("B", 2)));
+        assertThrows(UncheckedIOException.class, () -> table.add(new Store("C", 3)));
+        assertNull(table.find("B"));
+        assertNull(table.find("C"));
+        assertThrows(IOException.class, log::close);
+    }
+
+    @Test
+    public void appendAfterCloseThrows() throws IOException {
+        Path file = dir.resolve("closed.wal");
+        WriteAheadLog log = new WriteAheadLog(file, 16, 0);
+        HashTable table = new HashTable();
+        table.attachLog(log);
+        table.add(new Store("A", 1));
+        log.close();
+
+        // With a batch size above 1 the record would otherwise be buffered and lost
+        assertThrows(IllegalStateException.class, () -> table.add(new Store("B", 2)));
+        assertThrows(IllegalStateException.class, log::sync);
+        assertNull(table.find("B"));
+        assertNotNull(replay(file).find("A"));
+    }
+}
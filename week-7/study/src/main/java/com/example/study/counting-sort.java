@@ -1,26 +1,40 @@
-import java.util.Arrays;
-
 public class CountingSort {
+    // Above this many counters per element, radix sort uses less memory and time
+    private static final int MAX_RANGE_PER_ELEMENT = 4;
+
+    private final RadixSort fallback = new RadixSort();
+
     public void sort(int[] arr) {
         if (arr == null || arr.length <= 1) { return; }
         
-        int max = Arrays.stream(arr).max().orElse(0);
+        int min = arr[0];
+        int max = arr[0];
+        for (int i = 1; i < arr.length; i++) {
+            if (arr[i] < min) { min = arr[i]; }
+            if (arr[i] > max) { max = arr[i]; }
+        }
         
-        int[] count = new int[max + 1];
+        // Range as a long so max - min can't overflow
+        long range = (long) max - min + 1;
+        if (range > (long) MAX_RANGE_PER_ELEMENT * arr.length + 256) {
+            fallback.sort(arr);
+            return;
+        }
+        
+        // Counts are offset by min, so negative values work too
+        int[] count = new int[(int) range];
         
         int[] output = new int[arr.length];
         
-        for (int i = 0; i < arr.length; i++) {
-            count[arr[i]]++;
-        }
+        SortKernels.histogram(arr, 0, arr.length, min, count);
         
-        for (int i = 1; i <= max; i++) {
+        for (int i = 1; i < range; i++) {
             count[i] += count[i - 1];
         }
         
         for (int i = arr.length - 1; i >= 0; i--) {
-            output[count[arr[i]] - 1] = arr[i];
-            count[arr[i]]--;
+            output[count[arr[i] - min] - 1] = arr[i];
+            count[arr[i] - min]--;
         }
         
         System.arraycopy(output, 0, arr, 0, arr.length);
@@ -35,7 +49,7 @@ public class CountingSort {
     
     public static void main(String[] args) {
         CountingSort sorter = new CountingSort();
-        int[] data = { 5, 2, 9, 0, 5, 2 };
+        int[] data = { 5, 2, 9, 0, 5, 2, -3 };
         System.out.println("Original array:");
         printArray(data);
         sorter.sort(data);
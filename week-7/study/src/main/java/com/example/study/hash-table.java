@@ -19,7 +19,7 @@ public class HashTable<K, V> {
         this(10); // Default capacity is 10
     }
     
-    @SupressWwarnings("unchecked")
+    @SuppressWarnings("unchecked")
     public HashTable(int capacity) {
         this.numBuckets = capacity;
         this.buckets = new LinkedList[numBuckets];
@@ -30,9 +30,13 @@ public class HashTable<K, V> {
     }
     
     private int getBucketIndex(K key) {
-        iint hashCode = key.hashCode();
+        return getBucketIndex(key, numBuckets);
+    }
+    
+    private int getBucketIndex(K key, int capacity) {
+        int hashCode = key.hashCode();
         
-        return Math.abs(hashCode % numBuckets);
+        return Math.abs(hashCode % capacity);
     }
     
     public void put(K key, V value) {
@@ -82,6 +86,7 @@ public class HashTable<K, V> {
         return null;
     }
     
+    @SuppressWarnings("unchecked")
     private void resize() {
         int newCapacity = numBuckets * 2;
         LinkedList<HashNode>[] newBuckets = new LinkedList[newCapacity];
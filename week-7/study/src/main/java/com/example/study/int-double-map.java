@@ -0,0 +1,182 @@
+public class IntDoubleMap {
+    // Keys and values live in two flat arrays (open addressing, linear probing).
+    // Key 0 marks a free slot, so the real key 0 is stored on the side.
+    private static final int FREE_KEY = 0;
+
+    private int[] keys;
+    private double[] values;
+    private int mask;
+    private int size;
+
+    private boolean hasZeroKey;
+    private double zeroValue;
+
+    // Returned by get/remove when the key is not in the map
+    private final double missingValue;
+
+    public IntDoubleMap() {
+        this(16, 0.0);
+    }
+
+    public IntDoubleMap(int capacity, double missingValue) {
+        int cap = OpenAddressing.tableSizeFor(capacity);
+        this.keys = new int[cap];
+        this.values = new double[cap];
+        this.mask = cap - 1;
+        this.size = 0;
+        this.missingValue = missingValue;
+    }
+
+    public void put(int key, double value) {
+        if (key == FREE_KEY) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return;
+        }
+
+        int i = OpenAddressing.mix(key) & mask;
+        while (keys[i] != FREE_KEY) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return;
+            }
+            i = OpenAddressing.next(i, mask);
+        }
+
+        // Grow before inserting, so a map at the size limit throws without changing
+        if (OpenAddressing.overloaded(size + 1, keys.length)) {
+            resize();
+            i = freeSlot(key);
+        }
+        keys[i] = key;
+        values[i] = value;
+        size++;
+    }
+
+    public double get(int key) {
+        if (key == FREE_KEY) {
+            return hasZeroKey ? zeroValue : missingValue;
+        }
+
+        int i = OpenAddressing.mix(key) & mask;
+        while (keys[i] != FREE_KEY) {
+            if (keys[i] == key) {
+                return values[i];
+            }
+            i = OpenAddressing.next(i, mask);
+        }
+
+        return missingValue;
+    }
+
+    public boolean containsKey(int key) {
+        if (key == FREE_KEY) {
+            return hasZeroKey;
+        }
+
+        int i = OpenAddressing.mix(key) & mask;
+        while (keys[i] != FREE_KEY) {
+            if (keys[i] == key) {
+                return true;
+            }
+            i = OpenAddressing.next(i, mask);
+        }
+
+        return false;
+    }
+
+    public double remove(int key) {
+        if (key == FREE_KEY) {
+            if (!hasZeroKey) {
+                return missingValue;
+            }
+            hasZeroKey = false;
+            size--;
+            return zeroValue;
+        }
+
+        int i = OpenAddressing.mix(key) & mask;
+        while (keys[i] != FREE_KEY) {
+            if (keys[i] == key) {
+                double old = values[i];
+                shiftKeys(i);
+                size--;
+                return old;
+            }
+            i = OpenAddressing.next(i, mask);
+        }
+
+        return missingValue;
+    }
+
+    // Backward-shift deletion: pull later entries of the probe run into the hole,
+    // so lookups never need tombstones.
+    private void shiftKeys(int hole) {
+        int i = OpenAddressing.next(hole, mask);
+        while (keys[i] != FREE_KEY) {
+            int home = OpenAddressing.mix(keys[i]) & mask;
+            if (OpenAddressing.canShift(home, hole, i, mask)) {
+                keys[hole] = keys[i];
+                values[hole] = values[i];
+                hole = i;
+            }
+            i = OpenAddressing.next(i, mask);
+        }
+        keys[hole] = FREE_KEY;
+    }
+
+    private void resize() {
+        int[] oldKeys = keys;
+        double[] oldValues = values;
+
+        int length = OpenAddressing.grow(oldKeys.length);
+        keys = new int[length];
+        values = new double[length];
+        mask = length - 1;
+
+        for (int j = 0; j < oldKeys.length; j++) {
+            int key = oldKeys[j];
+            if (key != FREE_KEY) {
+                int i = freeSlot(key);
+                keys[i] = key;
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    // The first free slot in key's probe run; the key must not be in the table
+    private int freeSlot(int key) {
+        int i = OpenAddressing.mix(key) & mask;
+        while (keys[i] != FREE_KEY) {
+            i = OpenAddressing.next(i, mask);
+        }
+        return i;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public static void main(String[] args) {
+        IntDoubleMap map = new IntDoubleMap(4, Double.NaN);
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i * 1.5);
+        }
+
+        System.out.println("Size of map is: " + map.size());
+        System.out.println("Value for 7: " + map.get(7));
+        System.out.println("Removing 0 and 3...");
+
+        map.remove(0);
+        map.remove(3);
+        System.out.println(map.get(3));
+        System.out.println(map.size());
+    }
+}
@@ -1,97 +1,246 @@
 import java.util.Arrays;
 
 public class MinPriorityQueue {
-    private int[] heap;
+    // Binary min-heap of int keys in parallel primitive arrays, so millions of entries
+    // cost no boxing. Entries added with an id (any int >= 0) are indexed: pos[id] is
+    // the heap slot holding that id, which makes decreaseKey, contains and remove
+    // O(log n) instead of a scan. Entries added with add(k) alone have no id.
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int NO_ID = -1;
+    private static final int ABSENT = -1;
+    // Largest array length the JVM reliably allocates; ids must stay below it
+    static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private int[] heap;   // keys
+    private int[] ids;    // ids[i] is the id of the entry in heap[i], or NO_ID
+    private int[] pos;    // pos[id] is the heap slot of id, or ABSENT
     private int size;
-    private int capacity;
-    
+
+    public MinPriorityQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    // capacity is only the starting size; the heap grows as needed
     public MinPriorityQueue(int capacity) {
-        this.capacity = capacity;
+        int initial = Math.max(capacity, 1);
         this.size = 0;
-        this.heap = new int[capacity];
+        this.heap = new int[initial];
+        this.ids = new int[initial];
+        this.pos = new int[0];
     }
-    
-    private int parent(int i){ return (i - 1) / 2;  }
-    private int leftChild(int i){ return 2 * i + 1  };
-    private int rightChild(int i){ return 2 * i + 2  };
-    
+
+    // Doubles length, but to at least needed and at most MAX_ARRAY_SIZE, in long
+    // arithmetic so large arrays can't overflow to a negative size
+    static int grownLength(int length, int needed) {
+        return (int) Math.min(MAX_ARRAY_SIZE, Math.max(needed, 2L * length));
+    }
+
+    private int parent(int i) { return (i - 1) / 2; }
+    private int leftChild(int i) { return 2 * i + 1; }
+    private int rightChild(int i) { return 2 * i + 2; }
+
     public void swap(int i, int j) {
-        int temp = heap[i]
-        heap[i] = heap[j]
+        int temp = heap[i];
+        heap[i] = heap[j];
         heap[j] = temp;
+
+        int id = ids[i];
+        ids[i] = ids[j];
+        ids[j] = id;
+        if (ids[i] != NO_ID) { pos[ids[i]] = i; }
+        if (ids[j] != NO_ID) { pos[ids[j]] = j; }
     }
-    
+
+    // Adds a key that has no id
     public void add(int k) {
-        if (size == capacity) {
-            throw new IllegalStateException("Heap is full");
+        insert(NO_ID, k);
+    }
+
+    // Adds id with priority key; each id can be in the queue only once
+    public void add(int id, int key) {
+        if (id < 0 || id >= MAX_ARRAY_SIZE) {
+            throw new IllegalArgumentException("id must be between 0 and " + (MAX_ARRAY_SIZE - 1) + ": " + id);
+        }
+        if (contains(id)) {
+            throw new IllegalArgumentException("id " + id + " is already in the queue");
+        }
+        if (id >= pos.length) {
+            int old = pos.length;
+            pos = Arrays.copyOf(pos, grownLength(old, id + 1));
+            Arrays.fill(pos, old, pos.length, ABSENT);
+        }
+        insert(id, key);
+    }
+
+    private void insert(int id, int key) {
+        if (size == heap.length) {
+            if (size == MAX_ARRAY_SIZE) {
+                throw new IllegalStateException("Queue is full: " + size + " entries");
+            }
+            int length = grownLength(size, size + 1);
+            heap = Arrays.copyOf(heap, length);
+            ids = Arrays.copyOf(ids, length);
         }
-        
-        heap[size] = k;
+
+        heap[size] = key;
+        ids[size] = id;
+        if (id != NO_ID) { pos[id] = size; }
         int i = size;
         size++;
-        
+
         heapifyUp(i);
     }
-    
+
+    // Removes the smallest key and returns it
     public int getMin() {
-        if (sizee <= 0) {
-            throw new IllegalStateException("Heap is empty");
+        checkNotEmpty();
+        int root = heap[0];
+        removeAt(0);
+        return root;
+    }
+
+    // Removes the entry with the smallest key and returns its id (-1 if it was added without one)
+    public int pollMinId() {
+        checkNotEmpty();
+        int id = ids[0];
+        removeAt(0);
+        return id;
+    }
+
+    // The smallest key, without removing it
+    public int peekMin() {
+        checkNotEmpty();
+        return heap[0];
+    }
+
+    // The id of the entry with the smallest key, without removing it
+    public int peekMinId() {
+        checkNotEmpty();
+        return ids[0];
+    }
+
+    public boolean contains(int id) {
+        return id >= 0 && id < pos.length && pos[id] != ABSENT;
+    }
+
+    public int keyOf(int id) {
+        return heap[slotOf(id)];
+    }
+
+    // Lowers the key of id, e.g. when a shorter path to a vertex is found
+    public void decreaseKey(int id, int key) {
+        int i = slotOf(id);
+        if (key > heap[i]) {
+            throw new IllegalArgumentException("new key " + key + " is larger than the current key " + heap[i]);
         }
-        if (size == 1) {
-            size--;
-            return heap[0];
+        heap[i] = key;
+        heapifyUp(i);
+    }
+
+    // Removes id from the queue; returns false if it wasn't there
+    public boolean remove(int id) {
+        if (!contains(id)) {
+            return false;
         }
-        
-        int root = heap[0];
-        heap[0] = heap[size - 1];
+        removeAt(pos[id]);
+        return true;
+    }
+
+    // Moves the last entry into slot i, then restores the heap in whichever direction it broke
+    private void removeAt(int i) {
+        if (ids[i] != NO_ID) { pos[ids[i]] = ABSENT; }
         size--;
-        heapifyDown(0);
-        
-        return root;
+        if (i == size) {
+            return;
+        }
+        heap[i] = heap[size];
+        ids[i] = ids[size];
+        if (ids[i] != NO_ID) { pos[ids[i]] = i; }
+
+        if (i > 0 && heap[parent(i)] > heap[i]) {
+            heapifyUp(i);
+        } else {
+            heapifyDown(i);
+        }
+    }
+
+    private int slotOf(int id) {
+        if (!contains(id)) {
+            throw new IllegalArgumentException("id " + id + " is not in the queue");
+        }
+        return pos[id];
     }
-    
+
+    private void checkNotEmpty() {
+        if (size <= 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+    }
+
     private void heapifyUp(int i) {
         while (i != 0 && heap[parent(i)] > heap[i]) {
             swap(i, parent(i));
             i = parent(i);
         }
     }
-    
+
+    // Iterative, so deep heaps can't overflow the stack
     private void heapifyDown(int i) {
-        int smallest = i;
-        int left = leftChild(i);
-        int right = rightChild(i);
-        
-        if (left < size && heap[left] <  heap[smallest]) {
-            smallest = left;
-        }
-        
-        if (right < size && heap[right] < heap[smallest]) {
-            smallest = right;
-        }
-        
-        if (smallest != i) {
+        while (true) {
+            int smallest = i;
+            int left = leftChild(i);
+            int right = rightChild(i);
+
+            if (left < size && heap[left] < heap[smallest]) {
+                smallest = left;
+            }
+
+            if (right < size && heap[right] < heap[smallest]) {
+                smallest = right;
+            }
+
+            if (smallest == i) {
+                return;
+            }
             swap(i, smallest);
-            heapifyDown(smallest);
+            i = smallest;
         }
     }
-    
+
+    public int size() {
+        return size;
+    }
+
     public boolean isEmpty() {
         return size == 0;
     }
-    
+
     public static void main(String[] args) {
-        MinPriorityQueue pq = new MinPriorityQueue(10);
+        MinPriorityQueue pq = new MinPriorityQueue(2);
         pq.add(8);
         pq.add(3);
         pq.add(5);
         pq.add(9);
         pq.add(2);
-        
-        System.out.println("Extracting elements frmo Min-Priority Queue:");
+
+        System.out.println("Extracting elements from Min-Priority Queue:");
         while (!pq.isEmpty()) {
-            System.out.println(pq.getMin() + " ");
+            System.out.print(pq.getMin() + " ");
+        }
+        System.out.println();
+
+        // Indexed use: ids 0..3 with tentative distances, then a shorter one is found for 3
+        MinPriorityQueue dist = new MinPriorityQueue();
+        dist.add(0, 0);
+        dist.add(1, 7);
+        dist.add(2, 4);
+        dist.add(3, 9);
+        dist.decreaseKey(3, 1);
+        dist.remove(2);
+        System.out.print("Ids by distance: ");
+        while (!dist.isEmpty()) {
+            System.out.print(dist.pollMinId() + " ");
         }
         System.out.println();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,170 @@
+public class ObjectDoubleMap<K> {
+    // Keys and unboxed values live in two flat arrays (open addressing, linear probing).
+    // A null key marks a free slot, so null keys are not allowed.
+    private Object[] keys;
+    private double[] values;
+    private int mask;
+    private int size;
+
+    // Returned by get/remove when the key is not in the map
+    private final double missingValue;
+
+    public ObjectDoubleMap() {
+        this(16, 0.0);
+    }
+
+    public ObjectDoubleMap(int capacity, double missingValue) {
+        int cap = OpenAddressing.tableSizeFor(capacity);
+        this.keys = new Object[cap];
+        this.values = new double[cap];
+        this.mask = cap - 1;
+        this.size = 0;
+        this.missingValue = missingValue;
+    }
+
+    private int slotOf(Object key) {
+        return OpenAddressing.mix(key.hashCode()) & mask;
+    }
+
+    public void put(K key, double value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Null keys are not supported");
+        }
+
+        int i = slotOf(key);
+        while (keys[i] != null) {
+            if (keys[i].equals(key)) {
+                values[i] = value;
+                return;
+            }
+            i = OpenAddressing.next(i, mask);
+        }
+
+        // Grow before inserting, so a map at the size limit throws without changing
+        if (OpenAddressing.overloaded(size + 1, keys.length)) {
+            resize();
+            i = freeSlot(key);
+        }
+        keys[i] = key;
+        values[i] = value;
+        size++;
+    }
+
+    public double get(K key) {
+        if (key == null) {
+            return missingValue;
+        }
+
+        int i = slotOf(key);
+        while (keys[i] != null) {
+            if (keys[i].equals(key)) {
+                return values[i];
+            }
+            i = OpenAddressing.next(i, mask);
+        }
+
+        return missingValue;
+    }
+
+    public boolean containsKey(K key) {
+        if (key == null) {
+            return false;
+        }
+
+        int i = slotOf(key);
+        while (keys[i] != null) {
+            if (keys[i].equals(key)) {
+                return true;
+            }
+            i = OpenAddressing.next(i, mask);
+        }
+
+        return false;
+    }
+
+    public double remove(K key) {
+        if (key == null) {
+            return missingValue;
+        }
+
+        int i = slotOf(key);
+        while (keys[i] != null) {
+            if (keys[i].equals(key)) {
+                double old = values[i];
+                shiftKeys(i);
+                size--;
+                return old;
+            }
+            i = OpenAddressing.next(i, mask);
+        }
+
+        return missingValue;
+    }
+
+    // Backward-shift deletion, same as IntIntMap
+    private void shiftKeys(int hole) {
+        int i = OpenAddressing.next(hole, mask);
+        while (keys[i] != null) {
+            int home = slotOf(keys[i]);
+            if (OpenAddressing.canShift(home, hole, i, mask)) {
+                keys[hole] = keys[i];
+                values[hole] = values[i];
+                hole = i;
+            }
+            i = OpenAddressing.next(i, mask);
+        }
+        keys[hole] = null;
+    }
+
+    private void resize() {
+        Object[] oldKeys = keys;
+        double[] oldValues = values;
+
+        int length = OpenAddressing.grow(oldKeys.length);
+        keys = new Object[length];
+        values = new double[length];
+        mask = length - 1;
+
+        for (int j = 0; j < oldKeys.length; j++) {
+            Object key = oldKeys[j];
+            if (key != null) {
+                int i = freeSlot(key);
+                keys[i] = key;
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    // The first free slot in key's probe run; the key must not be in the table
+    private int freeSlot(Object key) {
+        int i = slotOf(key);
+        while (keys[i] != null) {
+            i = OpenAddressing.next(i, mask);
+        }
+        return i;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public static void main(String[] args) {
+        ObjectDoubleMap<String> map = new ObjectDoubleMap<>();
+        map.put("Yankees", 1.5);
+        map.put("Phillies", 2.5);
+        map.put("Red Sox", 3.5);
+        map.put("Mets", 4.5);
+
+        System.out.println("Size of map is: " + map.size());
+        System.out.println("Value for 'Red Sox': " + map.get("Red Sox"));
+        System.out.println("Removing 'Phillies'...");
+
+        map.remove("Phillies");
+        System.out.println(map.containsKey("Phillies"));
+        System.out.println(map.size());
+    }
+}
@@ -0,0 +1,51 @@
+public final class OpenAddressing {
+    // Index arithmetic shared by IntIntMap, IntDoubleMap and ObjectDoubleMap: power-of-two
+    // tables with linear probing, a 0.75 load factor and backward-shift deletion.
+    // The maps keep their own key and value arrays; only the slot math lives here.
+    static final int MAX_CAPACITY = 1 << 30;
+    static final double MAX_LOAD_FACTOR = 0.75;
+
+    private OpenAddressing() {
+    }
+
+    // Power-of-two table large enough to hold capacity keys below the load factor
+    static int tableSizeFor(int capacity) {
+        long needed = Math.max(4L, (long) Math.ceil(capacity / MAX_LOAD_FACTOR));
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity too large: " + capacity);
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    // Spreads the bits of the key so consecutive ints don't cluster in the table
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // The slot after i, wrapping around; mask is the table length - 1
+    static int next(int i, int mask) {
+        return (i + 1) & mask;
+    }
+
+    // Whether size keys in a table of the given length exceed the load factor
+    static boolean overloaded(int size, int length) {
+        return size > MAX_LOAD_FACTOR * length;
+    }
+
+    // The length to resize a full table to. Doubling stops at MAX_CAPACITY, since
+    // length * 2 would overflow there
+    static int grow(int length) {
+        if (length >= MAX_CAPACITY) {
+            throw new IllegalStateException("Map is full: a table can't grow past "
+                    + MAX_CAPACITY + " slots (" + (long) (MAX_LOAD_FACTOR * MAX_CAPACITY) + " keys)");
+        }
+        return length * 2;
+    }
+
+    // Backward-shift deletion: whether the entry in slot i, whose home slot is home, may
+    // move back into hole, i.e. its home is not cyclically between the hole and i
+    static boolean canShift(int home, int hole, int i, int mask) {
+        return ((i - home) & mask) >= ((i - hole) & mask);
+    }
+}
@@ -0,0 +1,143 @@
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class ParallelQuickSort implements AutoCloseable {
+    // Ranges at or below this size are handed to the sequential QuickSort
+    static final int DEFAULT_THRESHOLD = 1 << 13;
+
+    private final ForkJoinPool pool;
+    // Whether pool was created here, so close() must shut it down
+    private final boolean ownsPool;
+    private final int threshold;
+    private final QuickSort sequential = new QuickSort();
+
+    public ParallelQuickSort() {
+        this(ForkJoinPool.getCommonPoolParallelism(), DEFAULT_THRESHOLD);
+    }
+
+    // Uses the common pool when parallelism matches it, otherwise a new pool that
+    // close() shuts down
+    public ParallelQuickSort(int parallelism, int threshold) {
+        this(parallelism == ForkJoinPool.getCommonPoolParallelism()
+                ? ForkJoinPool.commonPool()
+                : new ForkJoinPool(parallelism),
+                parallelism != ForkJoinPool.getCommonPoolParallelism(), threshold);
+    }
+
+    // Sorts in a caller-supplied pool, which close() leaves running
+    public ParallelQuickSort(ForkJoinPool pool, int threshold) {
+        this(pool, false, threshold);
+    }
+
+    private ParallelQuickSort(ForkJoinPool pool, boolean ownsPool, int threshold) {
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+        this.threshold = Math.max(threshold, QuickSort.INSERTION_SORT_THRESHOLD);
+    }
+
+    public void sort(int[] arr) {
+        if (arr == null || arr.length <= 1) { return; }
+        sort(arr, 0, arr.length - 1);
+    }
+
+    public void sort(int[] arr, int low, int high) {
+        if (low < high) {
+            pool.invoke(new SortTask(arr, low, high, QuickSort.depthLimit(high - low + 1)));
+        }
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    // Shuts down the pool if this sorter created it; the sorter can't be used afterwards
+    @Override
+    public void close() {
+        if (ownsPool) {
+            pool.shutdown();
+        }
+    }
+
+    // Partitions its range, then forks both sides until they are small enough to sort sequentially
+    private class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] arr;
+        private final int low;
+        private final int high;
+        private final int depth;
+
+        SortTask(int[] arr, int low, int high, int depth) {
+            this.arr = arr;
+            this.low = low;
+            this.high = high;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            // The sequential sort has its own heapsort fallback, so a bad run of
+            // pivots can't make the parallel version quadratic either
+            if (high - low + 1 <= threshold || depth == 0) {
+                sequential.sort(arr, low, high);
+                return;
+            }
+
+            QuickSort.medianOfThree(arr, low, high);
+            long bounds = sequential.partition3(arr, low, high);
+            int lt = (int) (bounds >>> 32);
+            int gt = (int) bounds;
+
+            invokeAll(new SortTask(arr, low, lt - 1, depth - 1),
+                    new SortTask(arr, gt + 1, high, depth - 1));
+        }
+    }
+
+    public static void main(String[] args) {
+        // Usage: java ParallelQuickSort [size] [rounds]
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        int[] data = new int[n];
+        Random rand = new Random(42);
+        for (int i = 0; i < n; i++) {
+            data[i] = rand.nextInt();
+        }
+        int[] expected = data.clone();
+        Arrays.sort(expected);
+
+        System.out.printf("%d random ints, %d cores, best of %d rounds%n", n, cores, rounds);
+        System.out.printf("%-28s %10s%n", "Sort", "ms");
+
+        for (int p = 1; ; p = Math.min(p * 2, cores)) {
+            long best = Long.MAX_VALUE;
+            try (ParallelQuickSort sorter = new ParallelQuickSort(p, DEFAULT_THRESHOLD)) {
+                for (int r = 0; r < rounds; r++) {
+                    int[] copy = data.clone();
+                    long start = System.nanoTime();
+                    sorter.sort(copy);
+                    best = Math.min(best, System.nanoTime() - start);
+                    if (!Arrays.equals(copy, expected)) {
+                        throw new IllegalStateException("ParallelQuickSort produced a wrong order");
+                    }
+                }
+            }
+            System.out.printf("%-28s %10.1f%n", "ParallelQuickSort p=" + p, best / 1e6);
+            if (p == cores) {
+                break;
+            }
+        }
+
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < rounds; r++) {
+            int[] copy = data.clone();
+            long start = System.nanoTime();
+            Arrays.parallelSort(copy);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%-28s %10.1f%n", "Arrays.parallelSort", best / 1e6);
+    }
+}
@@ -0,0 +1,137 @@
+import java.lang.management.ManagementFactory;
+
+// Compares the generic HashTable<K, V> against its primitive-specialized siblings.
+// Usage: java PrimitiveMapBenchmark [numKeys] [rounds]
+public class PrimitiveMapBenchmark {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // Keeps the JIT from dropping the work
+    private static long sink;
+
+    private interface Workload {
+        void run(int n);
+    }
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        System.out.printf("%d keys, best of %d rounds (put all, get all, remove half)%n", n, rounds);
+        System.out.printf("%-32s %12s %16s%n", "Map", "ms", "bytes allocated");
+
+        measure("HashTable<Integer, Integer>", n, rounds, PrimitiveMapBenchmark::genericIntInt);
+        measure("IntIntMap", n, rounds, PrimitiveMapBenchmark::intInt);
+        measure("HashTable<Integer, Double>", n, rounds, PrimitiveMapBenchmark::genericIntDouble);
+        measure("IntDoubleMap", n, rounds, PrimitiveMapBenchmark::intDouble);
+        measure("HashTable<String, Double>", n, rounds, PrimitiveMapBenchmark::genericObjectDouble);
+        measure("ObjectDoubleMap<String>", n, rounds, PrimitiveMapBenchmark::objectDouble);
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    private static void measure(String name, int n, int rounds, Workload workload) {
+        long bestNanos = Long.MAX_VALUE;
+        long bestBytes = Long.MAX_VALUE;
+        for (int r = 0; r < rounds; r++) {
+            long bytesBefore = THREADS.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            workload.run(n);
+            long nanos = System.nanoTime() - start;
+            long bytes = THREADS.getCurrentThreadAllocatedBytes() - bytesBefore;
+            bestNanos = Math.min(bestNanos, nanos);
+            bestBytes = Math.min(bestBytes, bytes);
+        }
+        System.out.printf("%-32s %12.1f %16d%n", name, bestNanos / 1e6, bestBytes);
+    }
+
+    private static void genericIntInt(int n) {
+        HashTable<Integer, Integer> map = new HashTable<>();
+        for (int i = 0; i < n; i++) {
+            map.put(i * 7, i);
+        }
+        long sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += map.get(i * 7);
+        }
+        for (int i = 0; i < n; i += 2) {
+            map.remove(i * 7);
+        }
+        sink += sum + map.size();
+    }
+
+    private static void intInt(int n) {
+        IntIntMap map = new IntIntMap();
+        for (int i = 0; i < n; i++) {
+            map.put(i * 7, i);
+        }
+        long sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += map.get(i * 7);
+        }
+        for (int i = 0; i < n; i += 2) {
+            map.remove(i * 7);
+        }
+        sink += sum + map.size();
+    }
+
+    private static void genericIntDouble(int n) {
+        HashTable<Integer, Double> map = new HashTable<>();
+        for (int i = 0; i < n; i++) {
+            map.put(i * 7, i * 0.5);
+        }
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += map.get(i * 7);
+        }
+        for (int i = 0; i < n; i += 2) {
+            map.remove(i * 7);
+        }
+        sink += (long) sum + map.size();
+    }
+
+    private static void intDouble(int n) {
+        IntDoubleMap map = new IntDoubleMap();
+        for (int i = 0; i < n; i++) {
+            map.put(i * 7, i * 0.5);
+        }
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += map.get(i * 7);
+        }
+        for (int i = 0; i < n; i += 2) {
+            map.remove(i * 7);
+        }
+        sink += (long) sum + map.size();
+    }
+
+    // Both String workloads build the same key strings, so the difference is the map itself
+    private static void genericObjectDouble(int n) {
+        HashTable<String, Double> map = new HashTable<>();
+        for (int i = 0; i < n; i++) {
+            map.put("Owner_" + i, i * 0.5);
+        }
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += map.get("Owner_" + i);
+        }
+        for (int i = 0; i < n; i += 2) {
+            map.remove("Owner_" + i);
+        }
+        sink += (long) sum + map.size();
+    }
+
+    private static void objectDouble(int n) {
+        ObjectDoubleMap<String> map = new ObjectDoubleMap<>();
+        for (int i = 0; i < n; i++) {
+            map.put("Owner_" + i, i * 0.5);
+        }
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += map.get("Owner_" + i);
+        }
+        for (int i = 0; i < n; i += 2) {
+            map.remove("Owner_" + i);
+        }
+        sink += (long) sum + map.size();
+    }
+}
@@ -0,0 +1,194 @@
+import java.util.Arrays;
+import java.util.function.ToDoubleFunction;
+
+public class QuickSelect {
+    // Introselect: quickselect with QuickSort's pivot choice and three-way partition.
+    // If 2 * log2(n) partitions pass without finding k, pivots switch to median of
+    // medians, which guarantees a constant-fraction split and O(n) overall.
+    private final QuickSort quickSort = new QuickSort();
+
+    // Returns the k-th smallest value (k = 0 is the minimum). Afterwards arr[k] holds it,
+    // everything before it is <= and everything after it is >=.
+    public int select(int[] arr, int k) {
+        if (arr == null || k < 0 || k >= arr.length) {
+            throw new IllegalArgumentException("k must be between 0 and arr.length - 1");
+        }
+        selectRange(arr, 0, arr.length - 1, k);
+        return arr[k];
+    }
+
+    // Sorts the k smallest values into arr[0..k-1] in O(n + k log k); the rest is unordered
+    public void partialSort(int[] arr, int k) {
+        if (arr == null || k <= 0) { return; }
+        k = Math.min(k, arr.length);
+        selectRange(arr, 0, arr.length - 1, k - 1);
+        quickSort.sort(arr, 0, k - 1);
+    }
+
+    private void selectRange(int[] arr, int low, int high, int k) {
+        int budget = QuickSort.depthLimit(high - low + 1);
+        while (high > low) {
+            if (high - low < QuickSort.INSERTION_SORT_THRESHOLD) {
+                QuickSort.insertionSort(arr, low, high);
+                return;
+            }
+
+            if (budget > 0) {
+                budget--;
+                QuickSort.medianOfThree(arr, low, high);
+            } else {
+                QuickSort.swap(arr, medianOfMedians(arr, low, high), high);
+            }
+
+            // Three-way rather than Lomuto partition(), so duplicates can't stall the loop
+            long bounds = quickSort.partition3(arr, low, high);
+            int lt = (int) (bounds >>> 32);
+            int gt = (int) bounds;
+            if (k < lt) {
+                high = lt - 1;
+            } else if (k > gt) {
+                low = gt + 1;
+            } else {
+                return;
+            }
+        }
+    }
+
+    // Index of the median of medians of groups of five within arr[low..high]
+    private int medianOfMedians(int[] arr, int low, int high) {
+        int m = low;
+        for (int i = low; i <= high; i += 5) {
+            int end = Math.min(i + 4, high);
+            QuickSort.insertionSort(arr, i, end);
+            QuickSort.swap(arr, m++, (i + end) >>> 1);
+        }
+        // The group medians now sit in arr[low..m-1]
+        int mid = (low + m - 1) >>> 1;
+        selectRange(arr, low, m - 1, mid);
+        return mid;
+    }
+
+    // Same as select(int[], int) but for objects ordered by a primitive key,
+    // e.g. select(stores, k, Store::getSales). Use s -> -s.getSales() for highest first.
+    public <T> T select(T[] arr, int k, ToDoubleFunction<? super T> key) {
+        if (arr == null || k < 0 || k >= arr.length) {
+            throw new IllegalArgumentException("k must be between 0 and arr.length - 1");
+        }
+        selectRange(arr, 0, arr.length - 1, k, key);
+        return arr[k];
+    }
+
+    // Moves the k objects with the smallest keys to arr[0..k-1], sorted by key
+    public <T> void partialSort(T[] arr, int k, ToDoubleFunction<? super T> key) {
+        if (arr == null || k <= 0) { return; }
+        k = Math.min(k, arr.length);
+        selectRange(arr, 0, arr.length - 1, k - 1, key);
+        Arrays.sort(arr, 0, k, (a, b) -> Double.compare(key.applyAsDouble(a), key.applyAsDouble(b)));
+    }
+
+    private <T> void selectRange(T[] arr, int low, int high, int k, ToDoubleFunction<? super T> key) {
+        int budget = QuickSort.depthLimit(high - low + 1);
+        while (high > low) {
+            if (high - low < QuickSort.INSERTION_SORT_THRESHOLD) {
+                insertionSort(arr, low, high, key);
+                return;
+            }
+
+            int pivotIndex;
+            if (budget > 0) {
+                budget--;
+                int mid = (low + high) >>> 1;
+                pivotIndex = median(arr, low, mid, high, key);
+            } else {
+                pivotIndex = medianOfMedians(arr, low, high, key);
+            }
+            swap(arr, pivotIndex, high);
+
+            long bounds = partition3(arr, low, high, key);
+            int lt = (int) (bounds >>> 32);
+            int gt = (int) bounds;
+            if (k < lt) {
+                high = lt - 1;
+            } else if (k > gt) {
+                low = gt + 1;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private <T> int medianOfMedians(T[] arr, int low, int high, ToDoubleFunction<? super T> key) {
+        int m = low;
+        for (int i = low; i <= high; i += 5) {
+            int end = Math.min(i + 4, high);
+            insertionSort(arr, i, end, key);
+            swap(arr, m++, (i + end) >>> 1);
+        }
+        int mid = (low + m - 1) >>> 1;
+        selectRange(arr, low, m - 1, mid, key);
+        return mid;
+    }
+
+    // Dutch national flag partition around the key of arr[high]; returns (lt << 32) | gt
+    private static <T> long partition3(T[] arr, int low, int high, ToDoubleFunction<? super T> key) {
+        double pivot = key.applyAsDouble(arr[high]);
+        int lt = low;
+        int i = low;
+        int gt = high;
+        while (i <= gt) {
+            int c = Double.compare(key.applyAsDouble(arr[i]), pivot);
+            if (c < 0) {
+                swap(arr, lt++, i++);
+            } else if (c > 0) {
+                swap(arr, i, gt--);
+            } else {
+                i++;
+            }
+        }
+        return ((long) lt << 32) | (gt & 0xFFFFFFFFL);
+    }
+
+    private static <T> int median(T[] arr, int a, int b, int c, ToDoubleFunction<? super T> key) {
+        double ka = key.applyAsDouble(arr[a]);
+        double kb = key.applyAsDouble(arr[b]);
+        double kc = key.applyAsDouble(arr[c]);
+        if (ka < kb) {
+            return kb < kc ? b : (ka < kc ? c : a);
+        }
+        return ka < kc ? a : (kb < kc ? c : b);
+    }
+
+    private static <T> void insertionSort(T[] arr, int low, int high, ToDoubleFunction<? super T> key) {
+        for (int i = low + 1; i <= high; i++) {
+            T v = arr[i];
+            double kv = key.applyAsDouble(v);
+            int j = i - 1;
+            while (j >= low && Double.compare(key.applyAsDouble(arr[j]), kv) > 0) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = v;
+        }
+    }
+
+    private static <T> void swap(T[] arr, int i, int j) {
+        T temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+
+    public static void main(String[] args) {
+        QuickSelect selector = new QuickSelect();
+        int[] data = { 50, 40, 10, 70, 60, 20, 90, 80, 30 };
+        System.out.println("Median: " + selector.select(data, data.length / 2));
+        System.out.println("2nd largest: " + selector.select(data, data.length - 2));
+
+        selector.partialSort(data, 3);
+        System.out.print("3 smallest: ");
+        QuickSort.printArray(Arrays.copyOf(data, 3));
+
+        String[] owners = { "Walmart", "Costco", "Trader Joe's", "Aldi", "Whole Foods", "Publix" };
+        selector.partialSort(owners, 2, s -> -s.length());
+        System.out.println("2 longest names: " + owners[0] + ", " + owners[1]);
+    }
+}
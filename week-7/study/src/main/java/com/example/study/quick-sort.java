@@ -1,41 +1,261 @@
 public class QuickSort {
+    // Introsort: median-of-three quicksort with three-way partitioning,
+    // insertion sort for small ranges, and heapsort once recursion gets too deep.
+    // It sorts in place with O(log n) stack. The overload that takes a scratch buffer
+    // opts in to splitting large random-looking ranges with the SortKernels partition.
+    static final int INSERTION_SORT_THRESHOLD = 16;
+    static final int KERNEL_PARTITION_THRESHOLD = 1 << 12;
+
+    public void sort(int[] arr) {
+        if (arr == null || arr.length <= 1) { return; }
+        sort(arr, 0, arr.length - 1);
+    }
+
     public void sort(int[] arr, int low, int high) {
         if (low <  high) {
-            int pi = partition(arr, low, high);
-            
-            sort(arr, low, pi - 1);
-            sort(arr, pi + 1, high);
+            introSort(arr, low, high, depthLimit(high - low + 1), null);
+        }
+    }
+
+    // Same result, but ranges of KERNEL_PARTITION_THRESHOLD or more whose keys look
+    // random are partitioned out of place through scratch, which must be at least
+    // high + 1 long. Faster on random keys, at the cost of the caller's O(n) buffer.
+    public void sort(int[] arr, int low, int high, int[] scratch) {
+        if (scratch.length <= high) {
+            throw new IllegalArgumentException("scratch must hold at least " + (high + 1) + " ints");
+        }
+        if (low <  high) {
+            introSort(arr, low, high, depthLimit(high - low + 1), scratch);
+        }
+    }
+
+    // 2 * floor(log2(n)), the usual introsort bound
+    static int depthLimit(int n) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(n));
+    }
+
+    // scratch is null where the kernel partition is not used
+    private void introSort(int[] arr, int low, int high, int depth, int[] scratch) {
+        // Recurse into the smaller side and loop on the larger one,
+        // so the stack never grows past O(log n) frames
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depth == 0) {
+                heapSort(arr, low, high);
+                return;
+            }
+            depth--;
+
+            medianOfThree(arr, low, high);
+            if (scratch != null && high - low + 1 >= KERNEL_PARTITION_THRESHOLD
+                    && looksRandom(arr, low, high)) {
+                int p = partition(arr, low, high, scratch);
+                // A lopsided split means poor pivots for this data, typically runs of
+                // duplicates, which partition3 handles; stay with it in this subtree
+                if (Math.min(p - low, high - p) < (high - low) / 8) {
+                    scratch = null;
+                }
+                // p == low puts nothing on the left, so let partition3 split again
+                if (p > low) {
+                    if (p - low < high - p) {
+                        introSort(arr, low, p - 1, depth, scratch);
+                        low = p + 1;
+                    } else {
+                        introSort(arr, p + 1, high, depth, scratch);
+                        high = p - 1;
+                    }
+                    continue;
+                }
+            }
+            long bounds = partition3(arr, low, high);
+            int lt = (int) (bounds >>> 32);
+            int gt = (int) bounds;
+
+            // arr[lt..gt] all equal the pivot and are already in place
+            if (lt - low < high - gt) {
+                introSort(arr, low, lt - 1, depth, scratch);
+                low = gt + 1;
+            } else {
+                introSort(arr, gt + 1, high, depth, scratch);
+                high = lt - 1;
+            }
         }
+        insertionSort(arr, low, high);
     }
-    
+
+    // Original Lomuto partition: pivot is arr[high], returns its final index
     public int partition(int[] arr, int low, int high) {
         int pivot = arr[high];
         int i = (low - 1);
-        
+
         for (int j = low; j < high; j++) {
             if (arr[j] <= pivot) {
                 i++;
-                
+
                 int temp = arr[i];
                 arr[i] = arr[j];
                 arr[j] = temp;
             }
         }
-        
+
         int temp = arr[i + 1];
         arr[i + 1] = arr[high];
         arr[high] = temp;
-        
+
         return i + 1;
     }
 
+    // Same idea as partition(arr, low, high), but the compare-and-compress loop runs in
+    // SortKernels (SIMD when the Vector API is available), writing through scratch, which
+    // must be at least high long. Afterwards arr[low..p-1] < pivot <= arr[p+1..high].
+    public int partition(int[] arr, int low, int high, int[] scratch) {
+        int pivot = arr[high];
+        int p = SortKernels.partition(arr, low, high, pivot, scratch);
+        System.arraycopy(scratch, low, arr, low, high - low);
+
+        arr[high] = arr[p];
+        arr[p] = pivot;
+        return p;
+    }
+
+    // The kernel partition costs the same on any input, while partition3 is cheap on
+    // presorted runs. Samples 16 adjacent pairs and reports whether about as many
+    // descend as ascend, as in random data.
+    static boolean looksRandom(int[] arr, int low, int high) {
+        int step = (high - low) / 16;
+        int descents = 0;
+        for (int k = 0; k < 16; k++) {
+            int i = low + k * step;
+            if (arr[i] > arr[i + 1]) {
+                descents++;
+            }
+        }
+        return descents >= 4 && descents <= 12;
+    }
+
+    // Three-way (Bentley-McIlroy) partition around the pivot arr[high].
+    // Afterwards arr[low..lt-1] < pivot, arr[lt..gt] == pivot, arr[gt+1..high] > pivot.
+    // Returns lt and gt packed as (lt << 32) | gt.
+    public long partition3(int[] arr, int low, int high) {
+        swap(arr, low, high);
+        int pivot = arr[low];
+
+        // Keys equal to the pivot are parked at both ends (arr[low..p] and arr[q..high])
+        // while scanning, then swapped into the middle
+        int i = low;
+        int j = high + 1;
+        int p = low;
+        int q = high + 1;
+        while (true) {
+            while (arr[++i] < pivot) {
+                if (i == high) { break; }
+            }
+            while (pivot < arr[--j]) {
+                if (j == low) { break; }
+            }
+
+            if (i == j && arr[i] == pivot) {
+                swap(arr, ++p, i);
+            }
+            if (i >= j) { break; }
+
+            swap(arr, i, j);
+            if (arr[i] == pivot) { swap(arr, ++p, i); }
+            if (arr[j] == pivot) { swap(arr, --q, j); }
+        }
+
+        i = j + 1;
+        for (int k = low; k <= p; k++) {
+            swap(arr, k, j--);
+        }
+        for (int k = high; k >= q; k--) {
+            swap(arr, k, i++);
+        }
+
+        return ((long) (j + 1) << 32) | ((i - 1) & 0xFFFFFFFFL);
+    }
+
+    // Moves a median-of-three pivot to arr[high]. Large ranges use Tukey's ninther
+    // (median of three medians of three), which resists sorted, reversed and sawtooth input.
+    static void medianOfThree(int[] arr, int low, int high) {
+        int mid = (low + high) >>> 1;
+        int m;
+        if (high - low > 128) {
+            int step = (high - low) / 8;
+            int m1 = median(arr, low, low + step, low + 2 * step);
+            int m2 = median(arr, mid - step, mid, mid + step);
+            int m3 = median(arr, high - 2 * step, high - step, high);
+            m = median(arr, m1, m2, m3);
+        } else {
+            m = median(arr, low, mid, high);
+        }
+        swap(arr, m, high);
+    }
+
+    // Index of the median of arr[a], arr[b], arr[c]
+    private static int median(int[] arr, int a, int b, int c) {
+        if (arr[a] < arr[b]) {
+            return arr[b] < arr[c] ? b : (arr[a] < arr[c] ? c : a);
+        }
+        return arr[a] < arr[c] ? a : (arr[b] < arr[c] ? c : b);
+    }
+
+    static void insertionSort(int[] arr, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            int v = arr[i];
+            int j = i - 1;
+            while (j >= low && arr[j] > v) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = v;
+        }
+    }
+
+    // Heapsort of arr[low..high]; the fallback that caps the worst case at O(n log n)
+    static void heapSort(int[] arr, int low, int high) {
+        int n = high - low + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(arr, low, n, i);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            swap(arr, low, low + i);
+            siftDown(arr, low, i, 0);
+        }
+    }
+
+    // Iterative max-heap sift-down on the heap stored at arr[offset..offset+n-1]
+    private static void siftDown(int[] arr, int offset, int n, int i) {
+        int v = arr[offset + i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) {
+                break;
+            }
+            if (child + 1 < n && arr[offset + child + 1] > arr[offset + child]) {
+                child++;
+            }
+            if (arr[offset + child] <= v) {
+                break;
+            }
+            arr[offset + i] = arr[offset + child];
+            i = child;
+        }
+        arr[offset + i] = v;
+    }
+
+    static void swap(int[] arr, int i, int j) {
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+
     public static void printArray(int[] arr) {
         for (int value: arr) {
             System.out.print(value + " ");
         }
         System.out.println();
     }
-    
+
     public static void main(String[] args) {
         QuickSort sorter = new QuickSort();
         int[] data = { 50,40, 10, 70, 60, 20, 90, 80, 30 };
@@ -45,4 +265,4 @@ public class QuickSort {
         System.out.println("Sorted array");
         printArray(data);
     }
-}
\ No newline at end of file
+}
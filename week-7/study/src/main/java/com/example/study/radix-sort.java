@@ -0,0 +1,196 @@
+import java.util.stream.IntStream;
+
+public class RadixSort {
+    // LSD radix sort with 8-bit digits: 4 passes for int, 8 for long.
+    // Signed values are handled by flipping the sign bit of the top digit,
+    // so negatives sort before positives without a separate pass.
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int MASK = RADIX - 1;
+
+    // Below this size the histogram is built on one thread even if parallel is on
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private final boolean parallelHistogram;
+
+    // Reused between calls; grows to the largest array sorted so far
+    private int[] intScratch = new int[0];
+    private long[] longScratch = new long[0];
+
+    public RadixSort() {
+        this(false);
+    }
+
+    public RadixSort(boolean parallelHistogram) {
+        this.parallelHistogram = parallelHistogram;
+    }
+
+    public void sort(int[] arr) {
+        if (arr == null || arr.length <= 1) { return; }
+
+        int n = arr.length;
+        if (intScratch.length < n) {
+            intScratch = new int[n];
+        }
+
+        // All four digit histograms are built in a single read of the input
+        int[][] count = histograms(arr, 4);
+
+        int[] src = arr;
+        int[] dst = intScratch;
+        for (int pass = 0; pass < 4; pass++) {
+            int[] c = count[pass];
+
+            // Every element has the same digit: this pass would not move anything
+            if (c[digit(src[0], pass)] == n) {
+                continue;
+            }
+
+            // Turn counts into starting offsets
+            int sum = 0;
+            for (int d = 0; d < RADIX; d++) {
+                int tmp = c[d];
+                c[d] = sum;
+                sum += tmp;
+            }
+
+            for (int i = 0; i < n; i++) {
+                int v = src[i];
+                dst[c[digit(v, pass)]++] = v;
+            }
+
+            int[] t = src;
+            src = dst;
+            dst = t;
+        }
+
+        if (src != arr) {
+            System.arraycopy(src, 0, arr, 0, n);
+        }
+    }
+
+    public void sort(long[] arr) {
+        if (arr == null || arr.length <= 1) { return; }
+
+        int n = arr.length;
+        if (longScratch.length < n) {
+            longScratch = new long[n];
+        }
+
+        int[][] count = histograms(arr, 8);
+
+        long[] src = arr;
+        long[] dst = longScratch;
+        for (int pass = 0; pass < 8; pass++) {
+            int[] c = count[pass];
+
+            if (c[digit(src[0], pass)] == n) {
+                continue;
+            }
+
+            int sum = 0;
+            for (int d = 0; d < RADIX; d++) {
+                int tmp = c[d];
+                c[d] = sum;
+                sum += tmp;
+            }
+
+            for (int i = 0; i < n; i++) {
+                long v = src[i];
+                dst[c[digit(v, pass)]++] = v;
+            }
+
+            long[] t = src;
+            src = dst;
+            dst = t;
+        }
+
+        if (src != arr) {
+            System.arraycopy(src, 0, arr, 0, n);
+        }
+    }
+
+    // Digit of v for the given pass; the sign bit is flipped so the top digit orders signed values
+    static int digit(int v, int pass) {
+        return ((v ^ Integer.MIN_VALUE) >>> (pass * RADIX_BITS)) & MASK;
+    }
+
+    static int digit(long v, int pass) {
+        return (int) ((v ^ Long.MIN_VALUE) >>> (pass * RADIX_BITS)) & MASK;
+    }
+
+    private int[][] histograms(int[] arr, int passes) {
+        if (!parallelHistogram || arr.length < PARALLEL_THRESHOLD) {
+            return histogramRange(arr, 0, arr.length, passes);
+        }
+        // Each chunk counts into its own table; the tables are summed at the end
+        int chunks = Runtime.getRuntime().availableProcessors();
+        int chunkSize = (arr.length + chunks - 1) / chunks;
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(k -> histogramRange(arr, (int) Math.min(arr.length, (long) k * chunkSize),
+                        (int) Math.min(arr.length, (long) (k + 1) * chunkSize), passes))
+                .reduce(RadixSort::add)
+                .get();
+    }
+
+    private int[][] histograms(long[] arr, int passes) {
+        if (!parallelHistogram || arr.length < PARALLEL_THRESHOLD) {
+            return histogramRange(arr, 0, arr.length, passes);
+        }
+        int chunks = Runtime.getRuntime().availableProcessors();
+        int chunkSize = (arr.length + chunks - 1) / chunks;
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(k -> histogramRange(arr, (int) Math.min(arr.length, (long) k * chunkSize),
+                        (int) Math.min(arr.length, (long) (k + 1) * chunkSize), passes))
+                .reduce(RadixSort::add)
+                .get();
+    }
+
+    private static int[][] histogramRange(int[] arr, int from, int to, int passes) {
+        int[][] count = new int[passes][RADIX];
+        for (int i = from; i < to; i++) {
+            int v = arr[i];
+            for (int pass = 0; pass < passes; pass++) {
+                count[pass][digit(v, pass)]++;
+            }
+        }
+        return count;
+    }
+
+    private static int[][] histogramRange(long[] arr, int from, int to, int passes) {
+        int[][] count = new int[passes][RADIX];
+        for (int i = from; i < to; i++) {
+            long v = arr[i];
+            for (int pass = 0; pass < passes; pass++) {
+                count[pass][digit(v, pass)]++;
+            }
+        }
+        return count;
+    }
+
+    private static int[][] add(int[][] a, int[][] b) {
+        for (int pass = 0; pass < a.length; pass++) {
+            for (int d = 0; d < RADIX; d++) {
+                a[pass][d] += b[pass][d];
+            }
+        }
+        return a;
+    }
+
+    public static void printArray(int[] arr) {
+        for (int value: arr) {
+            System.out.print(value + " ");
+        }
+        System.out.println();
+    }
+
+    public static void main(String[] args) {
+        RadixSort sorter = new RadixSort();
+        int[] data = { 170, -45, 75, -90, 802, 24, 2, 66, Integer.MIN_VALUE, Integer.MAX_VALUE };
+        System.out.println("Original array:");
+        printArray(data);
+        sorter.sort(data);
+        System.out.println("Sorted array:");
+        printArray(data);
+    }
+}
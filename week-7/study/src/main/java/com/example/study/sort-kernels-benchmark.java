@@ -0,0 +1,130 @@
+import java.util.Arrays;
+import java.util.Random;
+
+// Times the scalar SortKernels loops against the active ones (the Vector API versions
+// when built with -Pvector and started with --add-modules jdk.incubator.vector), the
+// Lomuto partition, and QuickSort in place against QuickSort with a scratch buffer.
+// Usage: java --add-modules jdk.incubator.vector SortKernelsBenchmark [size] [rounds]
+public class SortKernelsBenchmark {
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        SortKernels.Kernels active = SortKernels.active();
+        System.out.printf("%d ints, best of %d rounds (ms), vectorized: %b%n",
+                n, rounds, SortKernels.isVectorized());
+        System.out.printf("%-22s %10s %10s%n", "Kernel", "scalar", "active");
+
+        Random rand = new Random(42);
+        int[] data = new int[n];
+        for (int i = 0; i < n; i++) {
+            data[i] = rand.nextInt();
+        }
+        int pivot = data[n / 2];
+        int[] sorted = data.clone();
+        Arrays.sort(sorted);
+        int mid = 0;
+        while (sorted[mid] < pivot) {
+            mid++;
+        }
+        int[] dst = new int[n];
+
+        long[] best = { Long.MAX_VALUE, Long.MAX_VALUE };
+        SortKernels.Kernels[] kernels = { SortKernels.SCALAR, active };
+        for (int r = 0; r < rounds; r++) {
+            for (int k = 0; k < 2; k++) {
+                long start = System.nanoTime();
+                int m = kernels[k].partition(data, 0, n, pivot, dst);
+                best[k] = Math.min(best[k], System.nanoTime() - start);
+                if (m != mid) {
+                    throw new IllegalStateException("partition kernel split at " + m + ", expected " + mid);
+                }
+            }
+        }
+        // Neither kernel promises an order within each side, so compare as sorted multisets
+        for (SortKernels.Kernels kernel : kernels) {
+            kernel.partition(data, 0, n, pivot, dst);
+            Arrays.sort(dst, 0, mid);
+            Arrays.sort(dst, mid, n);
+            if (!Arrays.equals(dst, sorted)) {
+                throw new IllegalStateException("partition kernel lost or duplicated values");
+            }
+        }
+        System.out.printf("%-22s %10.2f %10.2f%n", "partition", best[0] / 1e6, best[1] / 1e6);
+
+        // Range of 4n, the widest CountingSort handles itself
+        int range = 4 * n;
+        for (int i = 0; i < n; i++) {
+            data[i] = rand.nextInt(range) - range / 2;
+        }
+        int[] expectedCount = new int[range];
+        SortKernels.SCALAR.histogram(data, 0, n, -range / 2, expectedCount);
+
+        best[0] = Long.MAX_VALUE;
+        best[1] = Long.MAX_VALUE;
+        for (int r = 0; r < rounds; r++) {
+            for (int k = 0; k < 2; k++) {
+                int[] count = new int[range];
+                long start = System.nanoTime();
+                kernels[k].histogram(data, 0, n, -range / 2, count);
+                best[k] = Math.min(best[k], System.nanoTime() - start);
+                if (!Arrays.equals(count, expectedCount)) {
+                    throw new IllegalStateException("histogram kernel produced a wrong result");
+                }
+            }
+        }
+        System.out.printf("%-22s %10.2f %10.2f%n", "histogram", best[0] / 1e6, best[1] / 1e6);
+
+        // Whole partition step, in place (Lomuto) and through the kernel with a copy back,
+        // both around a median-of-three pivot
+        QuickSort.medianOfThree(data, 0, n - 1);
+        QuickSort quickSort = new QuickSort();
+        int[] scratch = new int[n];
+        long lomuto = Long.MAX_VALUE;
+        long kernel = Long.MAX_VALUE;
+        for (int r = 0; r < rounds; r++) {
+            int[] a = data.clone();
+            long start = System.nanoTime();
+            quickSort.partition(a, 0, n - 1);
+            lomuto = Math.min(lomuto, System.nanoTime() - start);
+
+            a = data.clone();
+            start = System.nanoTime();
+            int p = quickSort.partition(a, 0, n - 1, scratch);
+            kernel = Math.min(kernel, System.nanoTime() - start);
+            for (int i = 0; i < n; i++) {
+                if (i < p ? a[i] >= a[p] : a[i] < a[p]) {
+                    throw new IllegalStateException("QuickSort.partition with scratch is wrong at " + i);
+                }
+            }
+        }
+        System.out.printf("%-22s %10.2f %10.2f%n", "Lomuto vs kernel", lomuto / 1e6, kernel / 1e6);
+
+        // Whole sorts on the SorterBenchmark input shapes
+        String[] names = { "sorted", "reversed", "sawtooth", "few-unique", "random" };
+        System.out.printf("%-22s %10s %10s%n", "QuickSort", "in place", "scratch");
+        for (String name : names) {
+            data = SorterBenchmark.generate(name, n);
+            int[] expected = data.clone();
+            Arrays.sort(expected);
+
+            long inPlace = Long.MAX_VALUE;
+            long withScratch = Long.MAX_VALUE;
+            for (int r = 0; r < rounds; r++) {
+                int[] a = data.clone();
+                long start = System.nanoTime();
+                quickSort.sort(a, 0, n - 1);
+                inPlace = Math.min(inPlace, System.nanoTime() - start);
+
+                a = data.clone();
+                start = System.nanoTime();
+                quickSort.sort(a, 0, n - 1, scratch);
+                withScratch = Math.min(withScratch, System.nanoTime() - start);
+                if (!Arrays.equals(a, expected)) {
+                    throw new IllegalStateException("QuickSort with scratch sorted " + name + " wrongly");
+                }
+            }
+            System.out.printf("%-22s %10.1f %10.1f%n", name, inPlace / 1e6, withScratch / 1e6);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+public class SortKernels {
+    // Inner loops shared by QuickSort and CountingSort. VectorSortKernels lives in
+    // src/vector/java and is only compiled by the vector profile (mvn -Pvector). When it
+    // was built and the JVM is started with --add-modules jdk.incubator.vector, its SIMD
+    // versions are used; otherwise (or with -Dsortkernels.scalar=true) the plain loops below are.
+    interface Kernels {
+        // Out-of-place partition of src[from..to): values < pivot go to dst[from..mid),
+        // the rest to dst[mid..to), in no particular order. Returns mid.
+        int partition(int[] src, int from, int to, int pivot, int[] dst);
+
+        // count[arr[i] - min]++ for every i in [from, to)
+        void histogram(int[] arr, int from, int to, int min, int[] count);
+    }
+
+    static final Kernels SCALAR = new ScalarKernels();
+    private static final Kernels ACTIVE = load();
+
+    public static int partition(int[] src, int from, int to, int pivot, int[] dst) {
+        return ACTIVE.partition(src, from, to, pivot, dst);
+    }
+
+    public static void histogram(int[] arr, int from, int to, int min, int[] count) {
+        ACTIVE.histogram(arr, from, to, min, count);
+    }
+
+    public static boolean isVectorized() {
+        return ACTIVE != SCALAR;
+    }
+
+    // The kernels in use, for benchmarks that compare them with SCALAR
+    static Kernels active() {
+        return ACTIVE;
+    }
+
+    private static Kernels load() {
+        if (Boolean.getBoolean("sortkernels.scalar")
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return SCALAR;
+        }
+        try {
+            // Loaded by name so this class still links when the module is absent
+            return (Kernels) Class.forName("VectorSortKernels").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return SCALAR;
+        }
+    }
+
+    static class ScalarKernels implements Kernels {
+        @Override
+        public int partition(int[] src, int from, int to, int pivot, int[] dst) {
+            // Lows fill dst from the front, the rest from the back. Every value is written
+            // to both free ends and only one end advances, so there is no branch to mispredict.
+            int lo = from;
+            int hi = to;
+            for (int i = from; i < to; i++) {
+                int v = src[i];
+                int less = v < pivot ? 1 : 0;
+                dst[lo] = v;
+                dst[hi - 1] = v;
+                lo += less;
+                hi -= 1 - less;
+            }
+            return lo;
+        }
+
+        @Override
+        public void histogram(int[] arr, int from, int to, int min, int[] count) {
+            for (int i = from; i < to; i++) {
+                count[arr[i] - min]++;
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+import java.util.Arrays;
+import java.util.Random;
+
+// Times Sorter against QuickSort and Arrays.sort on differently shaped inputs.
+// Usage: java SorterBenchmark [size] [rounds]
+public class SorterBenchmark {
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        String[] names = { "sorted", "reversed", "sawtooth", "few-unique", "random" };
+        System.out.printf("%d ints, best of %d rounds (ms)%n", n, rounds);
+        System.out.printf("%-12s %-10s %10s %10s %12s%n", "Input", "Strategy", "Sorter", "QuickSort", "Arrays.sort");
+
+        Sorter sorter = new Sorter();
+        QuickSort quickSort = new QuickSort();
+        for (String name : names) {
+            int[] data = generate(name, n);
+            int[] expected = data.clone();
+            Arrays.sort(expected);
+
+            long sorterBest = Long.MAX_VALUE;
+            long quickBest = Long.MAX_VALUE;
+            long jdkBest = Long.MAX_VALUE;
+            for (int r = 0; r < rounds; r++) {
+                int[] a = data.clone();
+                long start = System.nanoTime();
+                sorter.sort(a);
+                sorterBest = Math.min(sorterBest, System.nanoTime() - start);
+                if (!Arrays.equals(a, expected)) {
+                    throw new IllegalStateException("Sorter produced a wrong order for " + name);
+                }
+
+                a = data.clone();
+                start = System.nanoTime();
+                quickSort.sort(a, 0, a.length - 1);
+                quickBest = Math.min(quickBest, System.nanoTime() - start);
+
+                a = data.clone();
+                start = System.nanoTime();
+                Arrays.sort(a);
+                jdkBest = Math.min(jdkBest, System.nanoTime() - start);
+            }
+            System.out.printf("%-12s %-10s %10.1f %10.1f %12.1f%n", name, sorter.getLastStrategy(),
+                    sorterBest / 1e6, quickBest / 1e6, jdkBest / 1e6);
+        }
+    }
+
+    static int[] generate(String shape, int n) {
+        Random rand = new Random(42);
+        int[] a = new int[n];
+        for (int i = 0; i < n; i++) {
+            switch (shape) {
+                case "sorted": a[i] = i * 3; break;
+                case "reversed": a[i] = (n - i) * 3; break;
+                case "sawtooth": a[i] = (i % 10_000) * 1_000 + rand.nextInt(1_000); break;
+                case "few-unique": a[i] = rand.nextInt(16) * 1_000_003; break;
+                default: a[i] = rand.nextInt(); break;
+            }
+        }
+        return a;
+    }
+}
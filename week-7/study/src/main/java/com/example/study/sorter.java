@@ -0,0 +1,190 @@
+import java.util.Arrays;
+
+public class Sorter {
+    // One front door for the study sorts. A single O(n) scan (plus a small sample)
+    // looks at size, value range, existing runs and duplicates, then picks:
+    //   tiny input             -> insertion sort
+    //   already sorted/reversed -> nothing / reverse
+    //   small value range      -> counting sort
+    //   few long runs          -> run merging (TimSort-style natural merge sort)
+    //   many duplicates        -> introsort (three-way partitioning)
+    //   large, wide range      -> LSD radix sort
+    //   otherwise              -> introsort
+    public enum Strategy { NONE, INSERTION, REVERSE, COUNTING, RUN_MERGE, INTROSORT, RADIX }
+
+    static final int INSERTION_MAX = 32;
+    static final int RADIX_MIN = 1 << 16;
+    private static final int SAMPLE_SIZE = 1024;
+
+    private final QuickSort quickSort = new QuickSort();
+    private final CountingSort countingSort = new CountingSort();
+    private final RadixSort radixSort = new RadixSort();
+    private int[] scratch = new int[0];
+    private Strategy lastStrategy = Strategy.NONE;
+
+    public void sort(int[] arr) {
+        if (arr == null || arr.length <= 1) {
+            lastStrategy = Strategy.NONE;
+            return;
+        }
+        lastStrategy = choose(arr);
+        switch (lastStrategy) {
+            case NONE: break;
+            case INSERTION: QuickSort.insertionSort(arr, 0, arr.length - 1); break;
+            case REVERSE: reverse(arr, 0, arr.length - 1); break;
+            case COUNTING: countingSort.sort(arr); break;
+            case RUN_MERGE: runMerge(arr); break;
+            case RADIX: radixSort.sort(arr); break;
+            default: quickSort.sort(arr, 0, arr.length - 1); break;
+        }
+    }
+
+    // The algorithm used by the last call to sort
+    public Strategy getLastStrategy() {
+        return lastStrategy;
+    }
+
+    Strategy choose(int[] arr) {
+        int n = arr.length;
+        if (n <= INSERTION_MAX) {
+            return Strategy.INSERTION;
+        }
+
+        int min = arr[0];
+        int max = arr[0];
+        int ascents = 0;
+        int descents = 0;
+        // Monotone runs, split exactly as runMerge splits them: a run is strictly
+        // descending if its second element is smaller than its first, else non-descending
+        int runs = 1;
+        boolean runStart = true;
+        boolean descending = false;
+        for (int i = 1; i < n; i++) {
+            int v = arr[i];
+            if (v < min) { min = v; }
+            if (v > max) { max = v; }
+            if (v > arr[i - 1]) {
+                ascents++;
+            } else if (v < arr[i - 1]) {
+                descents++;
+            }
+            if (runStart) {
+                descending = v < arr[i - 1];
+                runStart = false;
+            } else if (descending ? v >= arr[i - 1] : v < arr[i - 1]) {
+                runs++;
+                runStart = true;
+            }
+        }
+
+        if (descents == 0) {
+            return Strategy.NONE;
+        }
+        if (ascents == 0) {
+            return Strategy.REVERSE;
+        }
+
+        long range = (long) max - min + 1;
+        if (range <= n) {
+            return Strategy.COUNTING;
+        }
+
+        // Few runs means long runs to merge
+        if (runs <= n / 64) {
+            return Strategy.RUN_MERGE;
+        }
+
+        if (fewUnique(arr)) {
+            return Strategy.INTROSORT;
+        }
+        return n >= RADIX_MIN ? Strategy.RADIX : Strategy.INTROSORT;
+    }
+
+    // Estimates the duplicate ratio from an evenly spaced sample
+    private boolean fewUnique(int[] arr) {
+        int m = Math.min(SAMPLE_SIZE, arr.length);
+        int[] sample = new int[m];
+        long step = arr.length / m;
+        for (int i = 0; i < m; i++) {
+            sample[i] = arr[(int) (i * step)];
+        }
+        quickSort.sort(sample, 0, m - 1);
+        int distinct = 1;
+        for (int i = 1; i < m; i++) {
+            if (sample[i] != sample[i - 1]) {
+                distinct++;
+            }
+        }
+        return distinct <= m / 8;
+    }
+
+    // Natural merge sort: find the existing runs (reversing descending ones),
+    // then merge neighbouring runs pairwise until one is left
+    private void runMerge(int[] arr) {
+        int n = arr.length;
+        int[] bounds = new int[n / 2 + 2];
+        int count = 0;
+        int i = 0;
+        while (i < n) {
+            bounds[count++] = i;
+            int j = i + 1;
+            if (j < n && arr[j] < arr[i]) {
+                while (j < n && arr[j] < arr[j - 1]) { j++; }
+                reverse(arr, i, j - 1);
+            } else {
+                while (j < n && arr[j] >= arr[j - 1]) { j++; }
+            }
+            i = j;
+        }
+        bounds[count] = n;
+
+        if (scratch.length < n) {
+            scratch = new int[n];
+        }
+        int[] src = arr;
+        int[] dst = scratch;
+        while (count > 1) {
+            int merged = 0;
+            for (int r = 0; r < count; r += 2) {
+                int lo = bounds[r];
+                int mid = bounds[Math.min(r + 1, count)];
+                int hi = bounds[Math.min(r + 2, count)];
+                merge(src, dst, lo, mid, hi);
+                bounds[merged++] = lo;
+            }
+            bounds[merged] = n;
+            count = merged;
+            int[] t = src;
+            src = dst;
+            dst = t;
+        }
+        if (src != arr) {
+            System.arraycopy(src, 0, arr, 0, n);
+        }
+    }
+
+    // Merges src[lo..mid) and src[mid..hi) into dst[lo..hi)
+    private static void merge(int[] src, int[] dst, int lo, int mid, int hi) {
+        int i = lo;
+        int j = mid;
+        int k = lo;
+        while (i < mid && j < hi) {
+            dst[k++] = src[j] < src[i] ? src[j++] : src[i++];
+        }
+        System.arraycopy(src, i, dst, k, mid - i);
+        System.arraycopy(src, j, dst, k + (mid - i), hi - j);
+    }
+
+    private static void reverse(int[] arr, int i, int j) {
+        while (i < j) {
+            QuickSort.swap(arr, i++, j--);
+        }
+    }
+
+    public static void main(String[] args) {
+        Sorter sorter = new Sorter();
+        int[] data = { 5, 2, 9, 0, 5, 2, -3 };
+        sorter.sort(data);
+        System.out.println("Sorted with " + sorter.getLastStrategy() + ": " + Arrays.toString(data));
+    }
+}
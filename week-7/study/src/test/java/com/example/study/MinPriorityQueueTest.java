@@ -0,0 +1,114 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for MinPriorityQueue against java.util.PriorityQueue and a TreeMap of keys.
+ */
+public class MinPriorityQueueTest {
+
+    @Test
+    public void unindexedKeysMatchPriorityQueue() {
+        Random rand = new Random(1);
+        // Starting at capacity 1 makes the heap grow many times
+        MinPriorityQueue queue = new MinPriorityQueue(1);
+        PriorityQueue<Integer> reference = new PriorityQueue<>();
+        for (int step = 0; step < 100_000; step++) {
+            if (reference.isEmpty() || rand.nextInt(5) < 3) {
+                int key = rand.nextInt(1_000) - 500;
+                queue.add(key);
+                reference.add(key);
+            } else {
+                assertEquals(reference.peek().intValue(), queue.peekMin());
+                assertEquals(reference.poll().intValue(), queue.getMin());
+            }
+            assertEquals(reference.size(), queue.size());
+        }
+        while (!reference.isEmpty()) {
+            assertEquals(reference.poll().intValue(), queue.getMin());
+        }
+        assertTrue(queue.isEmpty());
+        assertThrows(IllegalStateException.class, queue::getMin);
+    }
+
+    @Test
+    public void indexedOperationsMatchReference() {
+        Random rand = new Random(2);
+        MinPriorityQueue queue = new MinPriorityQueue(1);
+        // keys by id, and the number of ids holding each key
+        Map<Integer, Integer> keys = new HashMap<>();
+        TreeMap<Integer, Integer> counts = new TreeMap<>();
+        int idRange = 2_000;
+        for (int step = 0; step < 200_000; step++) {
+            int id = rand.nextInt(idRange);
+            int op = rand.nextInt(4);
+            if (op == 0 && !keys.containsKey(id)) {
+                int key = rand.nextInt(10_000);
+                queue.add(id, key);
+                keys.put(id, key);
+                counts.merge(key, 1, Integer::sum);
+            } else if (op == 1 && keys.containsKey(id)) {
+                int old = keys.get(id);
+                int key = old - rand.nextInt(100);
+                queue.decreaseKey(id, key);
+                keys.put(id, key);
+                counts.merge(old, -1, (a, b) -> a + b == 0 ? null : a + b);
+                counts.merge(key, 1, Integer::sum);
+            } else if (op == 2) {
+                Integer old = keys.remove(id);
+                assertEquals(old != null, queue.remove(id));
+                if (old != null) {
+                    counts.merge(old, -1, (a, b) -> a + b == 0 ? null : a + b);
+                }
+            } else if (op == 3 && !keys.isEmpty()) {
+                // Ties make the polled id arbitrary, but its key must be the minimum
+                int min = counts.firstKey();
+                assertEquals(min, queue.peekMin());
+                int polled = queue.pollMinId();
+                assertEquals(min, keys.remove(polled).intValue());
+                counts.merge(min, -1, (a, b) -> a + b == 0 ? null : a + b);
+            }
+            assertEquals(keys.size(), queue.size());
+        }
+        for (int id = 0; id < idRange; id++) {
+            assertEquals(keys.containsKey(id), queue.contains(id));
+            if (keys.containsKey(id)) {
+                assertEquals(keys.get(id).intValue(), queue.keyOf(id));
+            }
+        }
+    }
+
+    @Test
+    public void invalidIdsAndKeysAreRejected() {
+        MinPriorityQueue queue = new MinPriorityQueue();
+        queue.add(3, 10);
+        assertThrows(IllegalArgumentException.class, () -> queue.add(3, 5));
+        assertThrows(IllegalArgumentException.class, () -> queue.add(-1, 5));
+        assertThrows(IllegalArgumentException.class, () -> queue.add(MinPriorityQueue.MAX_ARRAY_SIZE, 5));
+        assertThrows(IllegalArgumentException.class, () -> queue.add(Integer.MAX_VALUE, 5));
+        assertThrows(IllegalArgumentException.class, () -> queue.decreaseKey(3, 11));
+        assertThrows(IllegalArgumentException.class, () -> queue.decreaseKey(4, 1));
+        assertThrows(IllegalArgumentException.class, () -> queue.keyOf(4));
+        assertFalse(queue.remove(4));
+        assertFalse(queue.contains(-1));
+        assertEquals(10, queue.keyOf(3));
+    }
+
+    @Test
+    public void growthIsCappedWithoutOverflow() {
+        assertEquals(32, MinPriorityQueue.grownLength(16, 17));
+        assertEquals(1_000, MinPriorityQueue.grownLength(16, 1_000));
+        assertEquals(MinPriorityQueue.MAX_ARRAY_SIZE, MinPriorityQueue.grownLength(1 << 30, (1 << 30) + 1));
+        assertEquals(MinPriorityQueue.MAX_ARRAY_SIZE,
+                MinPriorityQueue.grownLength(Integer.MAX_VALUE - 100, Integer.MAX_VALUE - 99));
+    }
+}
@@ -0,0 +1,60 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for ParallelQuickSort against Arrays.sort.
+ */
+public class ParallelQuickSortTest {
+
+    @Test
+    public void sortMatchesArraysSort() {
+        // A small threshold forks down to tiny ranges, so task splitting is exercised
+        for (int parallelism : new int[] { 1, 2, 4 }) {
+            for (int threshold : new int[] { 1, 64, ParallelQuickSort.DEFAULT_THRESHOLD }) {
+                try (ParallelQuickSort sorter = new ParallelQuickSort(parallelism, threshold)) {
+                    for (int n : new int[] { 0, 1, 100, 200_000 }) {
+                        for (int[] arr : QuickSortTest.inputs(n)) {
+                            int[] expected = arr.clone();
+                            Arrays.sort(expected);
+                            sorter.sort(arr);
+                            assertArrayEquals(expected, arr);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void subrangeLeavesOtherElementsAlone() {
+        Random rand = new Random(1);
+        int[] arr = rand.ints(100_000).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected, 500, 99_000);
+        try (ParallelQuickSort sorter = new ParallelQuickSort(3, 256)) {
+            sorter.sort(arr, 500, 98_999);
+        }
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void callerPoolIsLeftRunning() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            try (ParallelQuickSort sorter = new ParallelQuickSort(pool, 128)) {
+                assertEquals(2, sorter.getParallelism());
+                sorter.sort(new Random(2).ints(10_000).toArray());
+            }
+            assertFalse(pool.isShutdown());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Randomized tests for IntIntMap, IntDoubleMap and ObjectDoubleMap against java.util.HashMap.
+ */
+public class PrimitiveMapsTest {
+
+    private static final int MISSING = -1;
+
+    @Test
+    public void intIntMapMatchesHashMap() {
+        Random rand = new Random(1);
+        // A key range a few times the table size gives long probe runs, so removes
+        // exercise backward-shift deletion across wrapped and clustered slots
+        for (int keyRange : new int[] { 8, 64, 5_000 }) {
+            IntIntMap map = new IntIntMap(1, MISSING);
+            Map<Integer, Integer> reference = new HashMap<>();
+            for (int step = 0; step < 50_000; step++) {
+                int key = rand.nextInt(keyRange) - keyRange / 4;
+                if (rand.nextInt(3) < 2) {
+                    map.put(key, step);
+                    reference.put(key, step);
+                } else {
+                    Integer expected = reference.remove(key);
+                    assertEquals(expected == null ? MISSING : expected, map.remove(key));
+                }
+                assertEquals(reference.size(), map.size());
+            }
+            for (int key = -keyRange; key < keyRange; key++) {
+                assertEquals(reference.containsKey(key), map.containsKey(key));
+                assertEquals(reference.getOrDefault(key, MISSING).intValue(), map.get(key));
+            }
+        }
+    }
+
+    @Test
+    public void intDoubleMapMatchesHashMap() {
+        Random rand = new Random(2);
+        IntDoubleMap map = new IntDoubleMap(1, Double.NaN);
+        Map<Integer, Double> reference = new HashMap<>();
+        for (int step = 0; step < 50_000; step++) {
+            int key = rand.nextInt(2_000) - 500;
+            double value = rand.nextDouble();
+            if (rand.nextInt(3) < 2) {
+                map.put(key, value);
+                reference.put(key, value);
+            } else {
+                Double expected = reference.remove(key);
+                assertEquals(expected == null ? Double.NaN : expected, map.remove(key));
+            }
+        }
+        assertEquals(reference.size(), map.size());
+        for (int key = -500; key < 1_500; key++) {
+            assertEquals(reference.getOrDefault(key, Double.NaN).doubleValue(), map.get(key));
+        }
+    }
+
+    @Test
+    public void objectDoubleMapMatchesHashMap() {
+        Random rand = new Random(3);
+        ObjectDoubleMap<String> map = new ObjectDoubleMap<>(1, -1.0);
+        Map<String, Double> reference = new HashMap<>();
+        for (int step = 0; step < 50_000; step++) {
+            String key = "k" + rand.nextInt(2_000);
+            if (rand.nextInt(3) < 2) {
+                map.put(key, step);
+                reference.put(key, (double) step);
+            } else {
+                Double expected = reference.remove(key);
+                assertEquals(expected == null ? -1.0 : expected, map.remove(key));
+            }
+        }
+        assertEquals(reference.size(), map.size());
+        for (int k = 0; k < 2_000; k++) {
+            String key = "k" + k;
+            assertEquals(reference.containsKey(key), map.containsKey(key));
+            assertEquals(reference.getOrDefault(key, -1.0).doubleValue(), map.get(key));
+        }
+        assertThrows(IllegalArgumentException.class, () -> map.put(null, 1.0));
+    }
+
+    @Test
+    public void zeroKeyIsStoredOnTheSide() {
+        IntIntMap map = new IntIntMap(4, MISSING);
+        assertFalse(map.containsKey(0));
+        map.put(0, 7);
+        map.put(16, 8); // 16 and 0 would share a slot if 0 were stored in the table
+        assertTrue(map.containsKey(0));
+        assertEquals(7, map.get(0));
+        assertEquals(2, map.size());
+        assertEquals(7, map.remove(0));
+        assertEquals(MISSING, map.remove(0));
+        assertEquals(8, map.get(16));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void capacityIsCapped() {
+        assertThrows(IllegalArgumentException.class, () -> new IntIntMap(Integer.MAX_VALUE, 0));
+        assertThrows(IllegalStateException.class, () -> OpenAddressing.grow(OpenAddressing.MAX_CAPACITY));
+        assertEquals(OpenAddressing.MAX_CAPACITY, OpenAddressing.grow(OpenAddressing.MAX_CAPACITY / 2));
+    }
+}
@@ -0,0 +1,87 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for QuickSelect against a fully sorted copy.
+ */
+public class QuickSelectTest {
+
+    @Test
+    public void selectFindsEveryRank() {
+        QuickSelect select = new QuickSelect();
+        Random rand = new Random(1);
+        for (int n : new int[] { 1, 2, 16, 17, 300 }) {
+            for (int bound : new int[] { 3, 1_000_000 }) {
+                int[] arr = rand.ints(n, 0, bound).toArray();
+                int[] expected = arr.clone();
+                Arrays.sort(expected);
+                for (int k = 0; k < n; k++) {
+                    int[] copy = arr.clone();
+                    assertEquals(expected[k], select.select(copy, k));
+                    for (int i = 0; i < n; i++) {
+                        assertTrue(i < k ? copy[i] <= copy[k] : copy[i] >= copy[k]);
+                    }
+                }
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> select.select(new int[3], 3));
+        assertThrows(IllegalArgumentException.class, () -> select.select(new int[3], -1));
+    }
+
+    @Test
+    public void selectHandlesAdversarialShapes() {
+        QuickSelect select = new QuickSelect();
+        int n = 100_000;
+        for (int[] arr : QuickSortTest.inputs(n)) {
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+            for (int k : new int[] { 0, 1, n / 3, n / 2, n - 1 }) {
+                assertEquals(expected[k], select.select(arr.clone(), k));
+            }
+        }
+    }
+
+    @Test
+    public void partialSortSortsPrefix() {
+        QuickSelect select = new QuickSelect();
+        Random rand = new Random(2);
+        int[] arr = rand.ints(10_000, -500, 500).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        for (int k : new int[] { 0, 1, 10, 5_000, 10_000, 20_000 }) {
+            int[] copy = arr.clone();
+            select.partialSort(copy, k);
+            int m = Math.min(k, arr.length);
+            assertArrayEquals(Arrays.copyOf(expected, m), Arrays.copyOf(copy, m));
+            Arrays.sort(copy);
+            assertArrayEquals(expected, copy);
+        }
+    }
+
+    @Test
+    public void keyedSelectMatchesSortedOrder() {
+        QuickSelect select = new QuickSelect();
+        Random rand = new Random(3);
+        Double[] values = new Double[2_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (double) rand.nextInt(300) - 150;
+        }
+        Double[] expected = values.clone();
+        Arrays.sort(expected);
+        for (int k : new int[] { 0, 17, 1_000, 1_999 }) {
+            assertEquals(expected[k], select.select(values.clone(), k, Double::doubleValue));
+            // Negating the key gives highest first
+            assertEquals(expected[values.length - 1 - k], select.select(values.clone(), k, v -> -v));
+        }
+        Double[] copy = values.clone();
+        select.partialSort(copy, 100, Double::doubleValue);
+        assertArrayEquals(Arrays.copyOf(expected, 100), Arrays.copyOf(copy, 100));
+    }
+}
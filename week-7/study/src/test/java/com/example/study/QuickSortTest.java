@@ -0,0 +1,118 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the introsort QuickSort and its partitions against Arrays.sort.
+ */
+public class QuickSortTest {
+
+    static final String[] SHAPES = { "sorted", "reversed", "sawtooth", "few-unique", "random" };
+
+    // Inputs that defeat a plain median-of-three quicksort, plus the benchmark shapes
+    static int[][] inputs(int n) {
+        int[][] inputs = new int[SHAPES.length + 3][];
+        for (int s = 0; s < SHAPES.length; s++) {
+            inputs[s] = SorterBenchmark.generate(SHAPES[s], n);
+        }
+        int[] equal = new int[n];
+        Arrays.fill(equal, 7);
+        int[] organPipe = new int[n];
+        int[] alternating = new int[n];
+        for (int i = 0; i < n; i++) {
+            organPipe[i] = Math.min(i, n - 1 - i);
+            alternating[i] = i % 2 == 0 ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        }
+        inputs[SHAPES.length] = equal;
+        inputs[SHAPES.length + 1] = organPipe;
+        inputs[SHAPES.length + 2] = alternating;
+        return inputs;
+    }
+
+    private static int[] sorted(int[] arr) {
+        int[] copy = arr.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    @Test
+    public void sortMatchesArraysSort() {
+        QuickSort sorter = new QuickSort();
+        for (int n : new int[] { 0, 1, 2, 15, 16, 17, 1_000, 100_000 }) {
+            for (int[] arr : inputs(n)) {
+                int[] expected = sorted(arr);
+                sorter.sort(arr);
+                assertArrayEquals(expected, arr);
+            }
+        }
+    }
+
+    @Test
+    public void scratchSortMatchesArraysSort() {
+        QuickSort sorter = new QuickSort();
+        // Large enough that random ranges go through the kernel partition
+        int n = 8 * QuickSort.KERNEL_PARTITION_THRESHOLD;
+        int[] scratch = new int[n];
+        for (int[] arr : inputs(n)) {
+            int[] expected = sorted(arr);
+            sorter.sort(arr, 0, n - 1, scratch);
+            assertArrayEquals(expected, arr);
+        }
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(new int[10], 0, 9, new int[9]));
+    }
+
+    @Test
+    public void subrangeLeavesOtherElementsAlone() {
+        QuickSort sorter = new QuickSort();
+        Random rand = new Random(1);
+        int n = 50_000;
+        int[] arr = rand.ints(n).toArray();
+        int low = 1_234;
+        int high = n - 4_321;
+        int[] expected = arr.clone();
+        Arrays.sort(expected, low, high + 1);
+
+        int[] inPlace = arr.clone();
+        sorter.sort(inPlace, low, high);
+        assertArrayEquals(expected, inPlace);
+
+        int[] withScratch = arr.clone();
+        sorter.sort(withScratch, low, high, new int[n]);
+        assertArrayEquals(expected, withScratch);
+    }
+
+    @Test
+    public void partition3SplitsAroundPivot() {
+        QuickSort sorter = new QuickSort();
+        Random rand = new Random(2);
+        for (int trial = 0; trial < 1_000; trial++) {
+            int[] arr = rand.ints(2 + rand.nextInt(50), 0, 8).toArray();
+            int[] before = sorted(arr);
+            int pivot = arr[arr.length - 1];
+            long bounds = sorter.partition3(arr, 0, arr.length - 1);
+            int lt = (int) (bounds >>> 32);
+            int gt = (int) bounds;
+            for (int i = 0; i < arr.length; i++) {
+                int expectedSign = i < lt ? -1 : i <= gt ? 0 : 1;
+                assertEquals(expectedSign, Integer.signum(Integer.compare(arr[i], pivot)));
+            }
+            assertArrayEquals(before, sorted(arr));
+        }
+    }
+
+    @Test
+    public void heapSortFallbackSortsRange() {
+        Random rand = new Random(3);
+        int[] arr = rand.ints(1_000, -50, 50).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected, 100, 900);
+        QuickSort.heapSort(arr, 100, 899);
+        assertArrayEquals(expected, arr);
+        assertEquals(40, QuickSort.depthLimit(1 << 20));
+    }
+}
@@ -0,0 +1,95 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for RadixSort and CountingSort against Arrays.sort.
+ */
+public class RadixSortTest {
+
+    private static final int[] SIZES = { 0, 1, 2, 17, 1_000, 100_000 };
+
+    private static int[] randomInts(Random rand, int n, int bound) {
+        int[] arr = new int[n];
+        for (int i = 0; i < n; i++) {
+            arr[i] = bound == 0 ? rand.nextInt() : rand.nextInt(bound) - bound / 2;
+        }
+        return arr;
+    }
+
+    private static void assertSortsLikeArraysSort(RadixSort sorter, int[] arr) {
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        sorter.sort(arr);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void intsMatchArraysSort() {
+        Random rand = new Random(1);
+        // The same sorter is reused so stale scratch contents would show up
+        RadixSort serial = new RadixSort();
+        RadixSort parallel = new RadixSort(true);
+        for (int n : SIZES) {
+            for (int bound : new int[] { 0, 10, 1 << 20 }) {
+                int[] arr = randomInts(rand, n, bound);
+                assertSortsLikeArraysSort(serial, arr.clone());
+                assertSortsLikeArraysSort(parallel, arr);
+            }
+        }
+    }
+
+    @Test
+    public void signBitIsFlippedOnlyInTopDigit() {
+        // Extremes and values that differ only in the sign bit
+        int[] arr = { 0, -1, 1, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE + 1,
+                Integer.MAX_VALUE - 1, 0x80, -0x80, 0x8000_0000 >> 8, 0x7f_ffff, -0x80_0000 };
+        assertSortsLikeArraysSort(new RadixSort(), arr);
+    }
+
+    @Test
+    public void longsMatchArraysSort() {
+        Random rand = new Random(2);
+        RadixSort serial = new RadixSort();
+        RadixSort parallel = new RadixSort(true);
+        for (int n : SIZES) {
+            long[] arr = new long[n];
+            for (int i = 0; i < n; i++) {
+                arr[i] = i % 3 == 0 ? rand.nextInt() : rand.nextLong();
+            }
+            if (n > 2) {
+                arr[0] = Long.MIN_VALUE;
+                arr[1] = Long.MAX_VALUE;
+            }
+            long[] expected = arr.clone();
+            Arrays.sort(expected);
+            long[] copy = arr.clone();
+            serial.sort(copy);
+            assertArrayEquals(expected, copy);
+            parallel.sort(arr);
+            assertArrayEquals(expected, arr);
+        }
+    }
+
+    @Test
+    public void countingSortMatchesArraysSort() {
+        Random rand = new Random(3);
+        CountingSort sorter = new CountingSort();
+        for (int n : SIZES) {
+            // Narrow ranges are counted; wide ones take the radix fallback
+            for (int bound : new int[] { 1, 50, 4 * n + 256, 0 }) {
+                int[] arr = randomInts(rand, n, bound);
+                int[] expected = arr.clone();
+                Arrays.sort(expected);
+                sorter.sort(arr);
+                assertArrayEquals(expected, arr);
+            }
+        }
+        int[] extremes = { Integer.MAX_VALUE, Integer.MIN_VALUE, 0, -1, Integer.MAX_VALUE };
+        sorter.sort(extremes);
+        assertArrayEquals(new int[] { Integer.MIN_VALUE, -1, 0, Integer.MAX_VALUE, Integer.MAX_VALUE }, extremes);
+    }
+}
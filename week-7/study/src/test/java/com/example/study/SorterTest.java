@@ -0,0 +1,69 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the Sorter dispatcher: every strategy must agree with Arrays.sort,
+ * and the benchmark shapes must pick the strategy they were designed for.
+ */
+public class SorterTest {
+
+    private static void assertSorts(Sorter sorter, int[] arr, Sorter.Strategy expected) {
+        int[] reference = arr.clone();
+        Arrays.sort(reference);
+        sorter.sort(arr);
+        assertArrayEquals(reference, arr);
+        assertEquals(expected, sorter.getLastStrategy());
+    }
+
+    @Test
+    public void shapesPickExpectedStrategy() {
+        Sorter sorter = new Sorter();
+        int n = 2 * Sorter.RADIX_MIN;
+        assertSorts(sorter, SorterBenchmark.generate("sorted", n), Sorter.Strategy.NONE);
+        assertSorts(sorter, SorterBenchmark.generate("reversed", n), Sorter.Strategy.REVERSE);
+        assertSorts(sorter, SorterBenchmark.generate("sawtooth", n), Sorter.Strategy.RUN_MERGE);
+        assertSorts(sorter, SorterBenchmark.generate("few-unique", n), Sorter.Strategy.INTROSORT);
+        assertSorts(sorter, SorterBenchmark.generate("random", n), Sorter.Strategy.RADIX);
+        assertSorts(sorter, SorterBenchmark.generate("random", Sorter.RADIX_MIN / 2), Sorter.Strategy.INTROSORT);
+        assertSorts(sorter, new Random(1).ints(n, -1_000, 1_000).toArray(), Sorter.Strategy.COUNTING);
+        assertSorts(sorter, new Random(2).ints(Sorter.INSERTION_MAX).toArray(), Sorter.Strategy.INSERTION);
+    }
+
+    @Test
+    public void runMergeHandlesDescendingRunsAndTies() {
+        Sorter sorter = new Sorter();
+        // Alternating ascending and descending runs with repeated keys at the joins
+        int n = 64 * 1_000;
+        int[] arr = new int[n];
+        int run = 4_000;
+        for (int i = 0; i < n; i++) {
+            int offset = i % run;
+            arr[i] = (i / run) % 2 == 0 ? offset * 1_000 : (run - offset) * 1_000;
+        }
+        assertSorts(sorter, arr, Sorter.Strategy.RUN_MERGE);
+    }
+
+    @Test
+    public void randomInputsMatchArraysSort() {
+        Sorter sorter = new Sorter();
+        Random rand = new Random(3);
+        for (int trial = 0; trial < 200; trial++) {
+            int n = rand.nextInt(5_000);
+            int bound = 1 + rand.nextInt(1 << rand.nextInt(31));
+            int[] arr = rand.ints(n, -bound / 2, bound - bound / 2).toArray();
+            // Sort a random prefix so some inputs are mostly runs
+            Arrays.sort(arr, 0, rand.nextInt(n + 1));
+            int[] reference = arr.clone();
+            Arrays.sort(reference);
+            sorter.sort(arr);
+            assertArrayEquals(reference, arr);
+        }
+        sorter.sort(new int[0]);
+        assertEquals(Sorter.Strategy.NONE, sorter.getLastStrategy());
+    }
+}
@@ -0,0 +1,84 @@
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+public class VectorSortKernels implements SortKernels.Kernels {
+    // SIMD kernels on 256-bit vectors (8 ints, one AVX2 register). Only SortKernels
+    // should load this class, and only when jdk.incubator.vector is in the boot layer.
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_256;
+    private static final int LANES = SPECIES.length();
+
+    // JDK 17 has no compress(), so COMPRESS[m] is a shuffle that moves the lanes set
+    // in the bit mask m to the front and the others behind them, each group in order
+    private static final VectorShuffle<Integer>[] COMPRESS = compressTable();
+
+    @Override
+    public int partition(int[] src, int from, int to, int pivot, int[] dst) {
+        // dst[lo..hi) is still unwritten and exactly as long as the unread part of src,
+        // so while 16 or more are left, both full-width stores below land inside it.
+        // (Masked stores would avoid that, but JDK 17 does not compile them to vmaskmov.)
+        int lo = from;
+        int hi = to;
+        int i = from;
+        for (; to - i >= 2 * LANES; i += LANES) {
+            IntVector v = IntVector.fromArray(SPECIES, src, i);
+            int bits = (int) v.lt(pivot).toLong();
+            int c = Integer.bitCount(bits);
+            // Lows end up in lanes [0, c), highs in [c, LANES): store the highs first so
+            // they finish at hi, then the lows from lo, overwriting the spare lanes
+            IntVector packed = v.rearrange(COMPRESS[bits]);
+            packed.intoArray(dst, hi - LANES);
+            packed.intoArray(dst, lo);
+            lo += c;
+            hi -= LANES - c;
+        }
+        for (; i < to; i++) {
+            int v = src[i];
+            int less = v < pivot ? 1 : 0;
+            dst[lo] = v;
+            dst[hi - 1] = v;
+            lo += less;
+            hi -= 1 - less;
+        }
+        return lo;
+    }
+
+    @Override
+    public void histogram(int[] arr, int from, int to, int min, int[] count) {
+        // The vector part only computes the counter indices; there is no scatter-add,
+        // so the increments stay scalar
+        int[] idx = new int[LANES];
+        int bound = from + SPECIES.loopBound(to - from);
+        int i = from;
+        for (; i < bound; i += LANES) {
+            IntVector.fromArray(SPECIES, arr, i).sub(min).intoArray(idx, 0);
+            for (int k = 0; k < LANES; k++) {
+                count[idx[k]]++;
+            }
+        }
+        for (; i < to; i++) {
+            count[arr[i] - min]++;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static VectorShuffle<Integer>[] compressTable() {
+        VectorShuffle<Integer>[] table = new VectorShuffle[1 << LANES];
+        int[] order = new int[LANES];
+        for (int m = 0; m < table.length; m++) {
+            int k = 0;
+            for (int lane = 0; lane < LANES; lane++) {
+                if ((m & (1 << lane)) != 0) {
+                    order[k++] = lane;
+                }
+            }
+            for (int lane = 0; lane < LANES; lane++) {
+                if ((m & (1 << lane)) == 0) {
+                    order[k++] = lane;
+                }
+            }
+            table[m] = VectorShuffle.fromArray(SPECIES, order, 0);
+        }
+        return table;
+    }
+}